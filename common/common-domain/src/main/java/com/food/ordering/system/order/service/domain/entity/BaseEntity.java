@@ -24,6 +24,6 @@ public abstract class BaseEntity<ID> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.id);
+        return Objects.hashCode(this.id);
     }
 }
@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+public class OrderRequestConflictException extends DomainException {
+
+    public OrderRequestConflictException(String message) {
+        super(message);
+    }
+
+    public OrderRequestConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.id;
+
+import java.util.UUID;
+
+public interface IdGenerator {
+
+    UUID generate();
+
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.domain.id;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// UUIDv7: 48-bit epoch millis | version | 12-bit counter | variant | 62 random bits.
+// Millis and counter advance together in one CAS, so a counter overflow borrows the next millisecond.
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private final ThreadLocal<RandomBuffer> random = ThreadLocal.withInitial(RandomBuffer::new);
+    private final LongSupplier clock;
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        final long now = this.clock.getAsLong() << COUNTER_BITS;
+        final long timestampAndCounter = this.lastTimestampAndCounter.updateAndGet(last -> Math.max(now, last + 1));
+        final long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (timestampAndCounter & COUNTER_MASK);
+        final long leastSigBits = VARIANT_IETF | (this.random.get().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class RandomBuffer {
+
+        private static final int SIZE = 64;
+
+        private final SecureRandom secureRandom = newSecureRandom();
+        private final byte[] bytes = new byte[SIZE * Long.BYTES];
+        private final ByteBuffer buffer = ByteBuffer.wrap(this.bytes);
+
+        private RandomBuffer() {
+            this.buffer.position(this.bytes.length);
+        }
+
+        private long nextLong() {
+            if (!this.buffer.hasRemaining()) {
+                this.secureRandom.nextBytes(this.bytes);
+                this.buffer.clear();
+            }
+            return this.buffer.getLong();
+        }
+
+        private static SecureRandom newSecureRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
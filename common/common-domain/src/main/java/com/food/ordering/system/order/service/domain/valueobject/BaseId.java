@@ -24,6 +24,6 @@ public abstract class BaseId<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Objects.hashCode(value);
     }
 }
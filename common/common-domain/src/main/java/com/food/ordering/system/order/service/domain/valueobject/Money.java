@@ -2,52 +2,103 @@ package com.food.ordering.system.order.service.domain.valueobject;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 public class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
 
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    private final long cents;
+    private final boolean hasAmount;
+    private final BigDecimal exactAmount;
+    private BigDecimal amount;
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        this.hasAmount = amount != null;
+        if (this.hasAmount && !isWholeCents(amount)) {
+            // Sub-cent inputs keep the BigDecimal arithmetic, so results are rounded at the same point as before
+            this.exactAmount = amount;
+            this.cents = amount.setScale(SCALE, ROUNDING_MODE).unscaledValue().longValueExact();
+            this.amount = amount;
+        } else {
+            this.exactAmount = null;
+            this.cents = this.hasAmount ? amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact() : 0L;
+            this.amount = this.hasAmount ? BigDecimal.valueOf(this.cents, SCALE) : null;
+        }
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+        this.hasAmount = true;
+        this.exactAmount = null;
+    }
+
+    public static Money ofCents(final long cents) {
+        return new Money(cents);
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        if (this.amount == null && this.hasAmount)
+            this.amount = BigDecimal.valueOf(this.cents, SCALE);
+        return this.amount;
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     public boolean isGreaterThanZero() {
-        return this.validateNotNull() && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        if (!this.validateNotNull())
+            return false;
+        return this.exactAmount != null ? this.exactAmount.signum() > 0 : this.cents > 0;
     }
 
     public boolean isGreaterThan(final Money money) {
-        return this.validateNotNull() && this.validateNotNull(money) && this.amount.compareTo(money.getAmount()) > 0;
+        if (!this.validateNotNull() || !this.validateNotNull(money))
+            return false;
+        if (this.isExact() || money.isExact())
+            return this.getAmount().compareTo(money.getAmount()) > 0;
+        return this.cents > money.cents;
     }
 
     private boolean validateNotNull() {
-        return this.amount != null;
+        return this.hasAmount;
     }
 
     private boolean validateNotNull(final Money money) {
-        return money.getAmount() != null;
+        return money.hasAmount;
+    }
+
+    private boolean isExact() {
+        return this.exactAmount != null;
     }
 
     public Money add(final Money money) {
-        return new Money(this.setScale(this.amount.add(money.getAmount())));
+        if (this.isExact() || money.isExact())
+            return new Money(setScale(this.getAmount().add(money.getAmount())));
+        return new Money(Math.addExact(this.cents, money.cents));
     }
 
     public Money subtract(final Money money) {
-        return new Money(this.setScale(this.amount.subtract(money.getAmount())));
+        if (this.isExact() || money.isExact())
+            return new Money(setScale(this.getAmount().subtract(money.getAmount())));
+        return new Money(Math.subtractExact(this.cents, money.cents));
     }
 
     public Money multiply(final Integer value) {
-        return new Money(this.setScale(this.amount.multiply(new BigDecimal(value))));
+        if (this.isExact())
+            return new Money(setScale(this.exactAmount.multiply(new BigDecimal(value))));
+        return new Money(Math.multiplyExact(this.cents, value.longValue()));
+    }
+
+    private static boolean isWholeCents(final BigDecimal input) {
+        return input.scale() <= SCALE || input.stripTrailingZeros().scale() <= SCALE;
     }
 
-    private BigDecimal setScale(final BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+    private static BigDecimal setScale(final BigDecimal input) {
+        return input.setScale(SCALE, ROUNDING_MODE);
     }
 
     @Override
@@ -55,11 +106,18 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return amount.equals(money.amount);
+        if (this.isExact() || money.isExact())
+            return this.isExact() && money.isExact() && this.exactAmount.compareTo(money.exactAmount) == 0;
+        return hasAmount == money.hasAmount && cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return this.isExact() ? this.exactAmount.stripTrailingZeros().hashCode() : Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.getAmount());
     }
 }
@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.valueobject;
+
+public enum PaymentOrderStatus {
+    PENDING, CANCELLED;
+}
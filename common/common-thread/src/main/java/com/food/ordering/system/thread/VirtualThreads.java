@@ -0,0 +1,33 @@
+package com.food.ordering.system.thread;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+public final class VirtualThreads {
+
+    private static final boolean SUPPORTED = threadFactory("virtual-thread-probe-").isPresent();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    // Thread.ofVirtual() is resolved reflectively so the code base keeps compiling for Java 17.
+    public static Optional<ThreadFactory> threadFactory(final String namePrefix) {
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var namedBuilder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static Executor threadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return task -> threadFactory.newThread(task).start();
+    }
+}
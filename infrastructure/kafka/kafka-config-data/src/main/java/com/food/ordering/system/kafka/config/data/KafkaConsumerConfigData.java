@@ -24,4 +24,7 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Boolean parallelBatchProcessing;
+    private Integer parallelBatchWorkers;
+    private Boolean virtualThreadsEnabled;
 }
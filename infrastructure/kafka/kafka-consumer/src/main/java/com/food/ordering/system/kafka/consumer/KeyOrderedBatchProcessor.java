@@ -0,0 +1,101 @@
+package com.food.ordering.system.kafka.consumer;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.exception.KafkaConsumerException;
+import com.food.ordering.system.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class KeyOrderedBatchProcessor {
+
+    private static final String WORKER_THREAD_NAME_PREFIX = "kafka-batch-worker-";
+
+    private final boolean parallel;
+    private final int workerCount;
+    private final ExecutorService workerPool;
+    private final Executor workers;
+
+    public KeyOrderedBatchProcessor(KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.parallel = Boolean.TRUE.equals(kafkaConsumerConfigData.getParallelBatchProcessing());
+        this.workerCount = kafkaConsumerConfigData.getParallelBatchWorkers();
+        final var virtualThreads = this.parallel && Boolean.TRUE.equals(kafkaConsumerConfigData.getVirtualThreadsEnabled()) ?
+                VirtualThreads.threadFactory(WORKER_THREAD_NAME_PREFIX).orElse(null) : null;
+        this.workerPool = this.parallel && virtualThreads == null ?
+                Executors.newFixedThreadPool(this.workerCount, workerThreadFactory()) : null;
+        this.workers = virtualThreads != null ? VirtualThreads.threadPerTaskExecutor(virtualThreads) : this.workerPool;
+    }
+
+    public <T> void process(List<T> messages, Function<T, ?> keyExtractor, Consumer<List<T>> batchHandler) {
+        if (messages.isEmpty())
+            return;
+        if (!this.parallel || messages.size() < 2) {
+            batchHandler.accept(messages);
+            return;
+        }
+
+        final var keys = messages.stream().map(keyExtractor).toList();
+        final var slices = Math.min(this.workerCount, (int) keys.stream().distinct().count());
+        if (slices < 2) {
+            batchHandler.accept(messages);
+            return;
+        }
+
+        final var messagesBySlice = new LinkedHashMap<Object, List<T>>();
+        for (int i = 0; i < messages.size(); i++)
+            messagesBySlice.computeIfAbsent(Math.floorMod(Objects.hashCode(keys.get(i)), slices), slice -> new ArrayList<>())
+                    .add(messages.get(i));
+
+        final var futures = messagesBySlice.values().stream()
+                .map(sliceMessages -> CompletableFuture.runAsync(() -> batchHandler.accept(sliceMessages), this.workers))
+                .toArray(CompletableFuture[]::new);
+        this.awaitAll(futures, messagesBySlice);
+    }
+
+    private void awaitAll(CompletableFuture<?>[] futures, Map<Object, ? extends List<?>> messagesBySlice) {
+        try {
+            CompletableFuture.allOf(futures).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaConsumerException("Interrupted while processing batch of " + messagesBySlice.size() + " slices", e);
+        } catch (ExecutionException e) {
+            log.error("Batch processing failed for at least one of {} slices, batch will be redelivered: {}",
+                    messagesBySlice.size(), e.getCause().getMessage());
+            throw new KafkaConsumerException("Error processing batch of " + messagesBySlice.size() + " slices", e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void close() {
+        if (this.workerPool != null) {
+            log.info("Shutting down kafka batch workers!");
+            this.workerPool.shutdown();
+        }
+    }
+}
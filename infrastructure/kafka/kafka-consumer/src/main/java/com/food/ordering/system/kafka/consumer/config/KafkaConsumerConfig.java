@@ -2,10 +2,12 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.thread.VirtualThreads;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -60,6 +62,12 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         factory.setConcurrency(this.kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(this.kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(this.kafkaConsumerConfigData.getPollTimeoutMs());
+        if (Boolean.TRUE.equals(this.kafkaConsumerConfigData.getVirtualThreadsEnabled()))
+            VirtualThreads.threadFactory("kafka-consumer-").ifPresent(threadFactory -> {
+                SimpleAsyncTaskExecutor consumerTaskExecutor = new SimpleAsyncTaskExecutor();
+                consumerTaskExecutor.setThreadFactory(threadFactory);
+                factory.getContainerProperties().setConsumerTaskExecutor(consumerTaskExecutor);
+            });
         return factory;
     }
 }
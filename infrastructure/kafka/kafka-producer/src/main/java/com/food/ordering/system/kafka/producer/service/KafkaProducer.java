@@ -2,10 +2,11 @@ package com.food.ordering.system.kafka.producer.service;
 
 import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.io.Serializable;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
-    void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
+    ListenableFuture<SendResult<K, V>> send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
 }
@@ -25,11 +25,12 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
     }
 
     @Override
-    public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
+    public ListenableFuture<SendResult<K, V>> send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
         log.info("Sending message={} to topic={}", message, topicName);
         try {
             ListenableFuture<SendResult<K, V>> kafkaResultFuture = this.kafkaTemplate.send(topicName, key, message);
             kafkaResultFuture.addCallback(callback);
+            return kafkaResultFuture;
         } catch (KafkaException e) {
             log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
                     e.getMessage());
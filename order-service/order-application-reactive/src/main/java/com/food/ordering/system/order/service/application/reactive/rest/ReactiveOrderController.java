@@ -0,0 +1,123 @@
+package com.food.ordering.system.order.service.application.reactive.rest;
+
+import com.food.ordering.system.order.service.application.reactive.sse.ReactiveOrderStatusEventRegistry;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.ReactiveOrderApplicationService;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
+public class ReactiveOrderController {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final ReactiveOrderApplicationService reactiveOrderApplicationService;
+    private final ReactiveOrderStatusEventRegistry reactiveOrderStatusEventRegistry;
+
+    public ReactiveOrderController(ReactiveOrderApplicationService reactiveOrderApplicationService,
+                                   ReactiveOrderStatusEventRegistry reactiveOrderStatusEventRegistry) {
+        this.reactiveOrderApplicationService = reactiveOrderApplicationService;
+        this.reactiveOrderStatusEventRegistry = reactiveOrderStatusEventRegistry;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<CreateOrderResponse>> createOrder(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                 @RequestBody CreateOrderCommand createOrderCommand) {
+        log.info("Creating order for customer: {} at restaurant: {}", createOrderCommand.getCustomerId(),
+                createOrderCommand.getRestaurantId());
+        return this.reactiveOrderApplicationService.createOrder(idempotencyKey, createOrderCommand)
+                .map(createOrderResponse -> {
+                    log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
+                    return ResponseEntity.ok(createOrderResponse);
+                });
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<CreateOrderBatchResponse>> createOrders(@RequestBody CreateOrderBatchCommand createOrderBatchCommand) {
+        log.info("Creating batch of {} orders", createOrderBatchCommand.getOrders() != null ?
+                createOrderBatchCommand.getOrders().size() : 0);
+        return this.reactiveOrderApplicationService.createOrders(createOrderBatchCommand)
+                .map(createOrderBatchResponse -> {
+                    log.info("Order batch processed, created: {}, failed: {}", createOrderBatchResponse.getCreatedCount(),
+                            createOrderBatchResponse.getFailedCount());
+                    return ResponseEntity.ok(createOrderBatchResponse);
+                });
+    }
+
+    @PostMapping("/track")
+    public Mono<ResponseEntity<TrackOrdersResponse>> trackOrders(@RequestBody TrackOrdersQuery trackOrdersQuery) {
+        return this.reactiveOrderApplicationService.trackOrders(trackOrdersQuery)
+                .map(trackOrdersResponse -> {
+                    log.info("Returning status of {} orders, {} tracking ids not found", trackOrdersResponse.getOrders().size(),
+                            trackOrdersResponse.getNotFoundTrackingIds().size());
+                    return ResponseEntity.ok(trackOrdersResponse);
+                });
+    }
+
+    @GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TrackOrderResponse>> streamOrderStatus(@PathVariable UUID trackingId) {
+        log.info("Streaming order status for tracking id: {}", trackingId);
+        return this.reactiveOrderStatusEventRegistry.subscribe(trackingId, this.reactiveOrderApplicationService
+                .trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build()));
+    }
+
+    @GetMapping("/{trackingId}")
+    public Mono<ResponseEntity<TrackOrderResponse>> getOrderByTrackingId(@PathVariable UUID trackingId,
+                                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var trackOrderQuery = TrackOrderQuery.builder().orderTrackingId(trackingId).build();
+        final Mono<ResponseEntity<TrackOrderResponse>> notModified = ifNoneMatch == null ? Mono.empty() :
+                this.reactiveOrderApplicationService.findTrackOrderVersion(trackOrderQuery)
+                        .map(version -> toETag(version.getOrderStatus(), version.getOrderVersion()))
+                        .filter(eTag -> matches(ifNoneMatch, eTag))
+                        .map(eTag -> {
+                            log.debug("Order status with tracking id: {} not modified", trackingId);
+                            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                    .eTag(eTag)
+                                    .cacheControl(CacheControl.noCache())
+                                    .build();
+                        });
+
+        return notModified.switchIfEmpty(Mono.defer(() -> this.reactiveOrderApplicationService.trackOrder(trackOrderQuery)
+                .map(trackOrderResponse -> {
+                    log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
+                    return ResponseEntity.ok()
+                            .eTag(toETag(trackOrderResponse.getOrderStatus(), trackOrderResponse.getOrderVersion()))
+                            .cacheControl(CacheControl.noCache())
+                            .body(trackOrderResponse);
+                })));
+    }
+
+    private static String toETag(OrderStatus orderStatus, Long orderVersion) {
+        return "\"" + orderStatus + "-" + Long.toString(orderVersion, Character.MAX_RADIX) + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag));
+    }
+}
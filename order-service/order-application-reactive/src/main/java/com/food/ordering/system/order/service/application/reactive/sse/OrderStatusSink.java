@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.application.reactive.sse;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+class OrderStatusSink {
+
+    private final Sinks.Many<TrackOrderResponse> sink = Sinks.many().multicast().directBestEffort();
+    private int subscribers;
+
+    OrderStatusSink acquire() {
+        this.subscribers++;
+        return this;
+    }
+
+    OrderStatusSink release() {
+        return --this.subscribers == 0 ? null : this;
+    }
+
+    Flux<TrackOrderResponse> asFlux() {
+        return this.sink.asFlux();
+    }
+
+    void emit(TrackOrderResponse event) {
+        this.sink.emitNext(event, (signalType, emitResult) -> emitResult == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+    }
+}
@@ -0,0 +1,109 @@
+package com.food.ordering.system.order.service.application.reactive.sse;
+
+import com.food.ordering.system.order.service.application.reactive.sse.config.ReactiveOrderEventsConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingUpdatePublisher;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveOrderStatusEventRegistry implements OrderTrackingUpdatePublisher {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final ReactiveOrderEventsConfigData reactiveOrderEventsConfigData;
+    private final OrderDataMapper orderDataMapper;
+    private final Map<UUID, OrderStatusSink> sinks = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+    private final Counter rejectedConnections;
+
+    public ReactiveOrderStatusEventRegistry(ReactiveOrderEventsConfigData reactiveOrderEventsConfigData,
+                                            OrderDataMapper orderDataMapper,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.reactiveOrderEventsConfigData = reactiveOrderEventsConfigData;
+        this.orderDataMapper = orderDataMapper;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        registry.gauge("order.events.connections", this.connections);
+        this.sentEvents = registry.counter("order.events.sent");
+        this.droppedEvents = registry.counter("order.events.dropped");
+        this.rejectedConnections = registry.counter("order.events.rejected");
+    }
+
+    public Flux<ServerSentEvent<TrackOrderResponse>> subscribe(UUID trackingId, Mono<TrackOrderResponse> currentStatus) {
+        return Flux.defer(() -> {
+            if (this.connections.incrementAndGet() > this.reactiveOrderEventsConfigData.getMaxConnections()) {
+                this.connections.decrementAndGet();
+                this.rejectedConnections.increment();
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many order status subscriptions!"));
+            }
+
+            final var sink = this.sinks.compute(trackingId, (id, trackingSink) ->
+                    (trackingSink == null ? new OrderStatusSink() : trackingSink).acquire());
+            final var lastVersion = new AtomicLong(Long.MIN_VALUE);
+            log.debug("Order status subscription opened for tracking id: {}", trackingId);
+            return Flux.merge(sink.asFlux(), currentStatus)
+                    .filter(event -> isNewer(lastVersion, event.getOrderVersion()))
+                    .takeUntil(event -> isFinal(event.getOrderStatus()))
+                    .onBackpressureBuffer(this.reactiveOrderEventsConfigData.getBufferSize(),
+                            event -> this.droppedEvents.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                    .map(event -> ServerSentEvent.builder(event)
+                            .event(EVENT_NAME)
+                            .id(event.getOrderStatus().name())
+                            .build())
+                    .doOnNext(event -> this.sentEvents.increment())
+                    .take(Duration.ofMillis(this.reactiveOrderEventsConfigData.getEmitterTimeoutMs()))
+                    .doFinally(signalType -> this.unsubscribe(trackingId));
+        });
+    }
+
+    @Override
+    public void publish(List<OrderTrackingView> orderTrackingViews) {
+        orderTrackingViews.forEach(orderTrackingView -> {
+            final var sink = this.sinks.get(orderTrackingView.getTrackingId().getValue());
+            if (sink != null)
+                sink.emit(this.orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView));
+        });
+    }
+
+    private void unsubscribe(UUID trackingId) {
+        this.connections.decrementAndGet();
+        this.sinks.computeIfPresent(trackingId, (id, trackingSink) -> trackingSink.release());
+        log.debug("Order status subscription closed for tracking id: {}", trackingId);
+    }
+
+    private static boolean isNewer(AtomicLong lastVersion, long orderVersion) {
+        return lastVersion.getAndAccumulate(orderVersion, Math::max) < orderVersion;
+    }
+
+    private static boolean isFinal(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.application.reactive.sse.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Data
+@Configuration
+@Profile("reactive")
+@ConfigurationProperties(prefix = "order-events-config")
+public class ReactiveOrderEventsConfigData {
+    private Long emitterTimeoutMs;
+    private Integer bufferSize;
+    private Integer maxConnections;
+}
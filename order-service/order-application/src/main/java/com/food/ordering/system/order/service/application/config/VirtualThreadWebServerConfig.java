@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.application.config;
+
+import com.food.ordering.system.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "order-service.virtual-threads-enabled", havingValue = "true")
+public class VirtualThreadWebServerConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> VirtualThreads.threadFactory("http-handler-").ifPresent(threadFactory -> {
+            log.info("Servlet requests will run on virtual threads");
+            protocolHandler.setExecutor(VirtualThreads.threadPerTaskExecutor(threadFactory));
+        });
+    }
+}
@@ -4,12 +4,15 @@ import com.food.ordering.system.application.handler.ErrorDTO;
 import com.food.ordering.system.application.handler.GlobalExceptionHandler;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.exception.OrderRequestConflictException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @ControllerAdvice
@@ -36,4 +39,26 @@ public class OrderGlobalExceptionHandler extends GlobalExceptionHandler {
                 .message(orderNotFoundException.getMessage())
                 .build();
     }
+
+    @ResponseBody
+    @ExceptionHandler(value = {OrderRequestConflictException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorDTO handleException(OrderRequestConflictException orderRequestConflictException) {
+        log.error(orderRequestConflictException.getMessage(), orderRequestConflictException);
+        return ErrorDTO.builder()
+                .code(HttpStatus.CONFLICT.getReasonPhrase())
+                .message(orderRequestConflictException.getMessage())
+                .build();
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {ResponseStatusException.class})
+    public ResponseEntity<ErrorDTO> handleException(ResponseStatusException responseStatusException) {
+        log.error(responseStatusException.getMessage(), responseStatusException);
+        return ResponseEntity.status(responseStatusException.getStatus())
+                .body(ErrorDTO.builder()
+                        .code(responseStatusException.getStatus().getReasonPhrase())
+                        .message(responseStatusException.getReason())
+                        .build());
+    }
 }
\ No newline at end of file
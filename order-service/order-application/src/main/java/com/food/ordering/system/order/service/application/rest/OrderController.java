@@ -1,41 +1,119 @@
 package com.food.ordering.system.order.service.application.rest;
 
+import com.food.ordering.system.order.service.application.sse.OrderStatusEventRegistry;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderApplicationService orderApplicationService;
+    private final OrderStatusEventRegistry orderStatusEventRegistry;
 
-    public OrderController(OrderApplicationService orderApplicationService) {
+    public OrderController(OrderApplicationService orderApplicationService,
+                           OrderStatusEventRegistry orderStatusEventRegistry) {
         this.orderApplicationService = orderApplicationService;
+        this.orderStatusEventRegistry = orderStatusEventRegistry;
     }
 
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand) {
+    public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrder(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                              @RequestBody CreateOrderCommand createOrderCommand) {
         log.info("Creating order for customer: {} at restaurant: {}", createOrderCommand.getCustomerId(),
                 createOrderCommand.getRestaurantId());
-        CreateOrderResponse createOrderResponse = this.orderApplicationService.createOrder(createOrderCommand);
-        log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
-        return ResponseEntity.ok(createOrderResponse);
+        return this.orderApplicationService.createOrderAsync(idempotencyKey, createOrderCommand)
+                .thenApply(createOrderResponse -> {
+                    log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
+                    return ResponseEntity.ok(createOrderResponse);
+                });
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<CreateOrderBatchResponse> createOrders(@RequestBody CreateOrderBatchCommand createOrderBatchCommand) {
+        log.info("Creating batch of {} orders", createOrderBatchCommand.getOrders() != null ?
+                createOrderBatchCommand.getOrders().size() : 0);
+        CreateOrderBatchResponse createOrderBatchResponse =
+                this.orderApplicationService.createOrders(createOrderBatchCommand);
+        log.info("Order batch processed, created: {}, failed: {}", createOrderBatchResponse.getCreatedCount(),
+                createOrderBatchResponse.getFailedCount());
+        return ResponseEntity.ok(createOrderBatchResponse);
+    }
+
+    @PostMapping("/track")
+    public ResponseEntity<TrackOrdersResponse> trackOrders(@RequestBody TrackOrdersQuery trackOrdersQuery) {
+        TrackOrdersResponse trackOrdersResponse = this.orderApplicationService.trackOrders(trackOrdersQuery);
+        log.info("Returning status of {} orders, {} tracking ids not found", trackOrdersResponse.getOrders().size(),
+                trackOrdersResponse.getNotFoundTrackingIds().size());
+        return ResponseEntity.ok(trackOrdersResponse);
+    }
+
+    @GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable UUID trackingId) {
+        log.info("Streaming order status for tracking id: {}", trackingId);
+        return this.orderStatusEventRegistry.subscribe(trackingId, () ->
+                this.orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build()));
     }
 
     @GetMapping("/{trackingId}")
-    public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
-        TrackOrderResponse trackOrderResponse =
-                this.orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build());
-        log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
-        return ResponseEntity.ok(trackOrderResponse);
+    public CompletableFuture<ResponseEntity<TrackOrderResponse>> getOrderByTrackingId(@PathVariable UUID trackingId,
+                                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var trackOrderQuery = TrackOrderQuery.builder().orderTrackingId(trackingId).build();
+        if (ifNoneMatch != null) {
+            final var eTag = this.orderApplicationService.findTrackOrderVersion(trackOrderQuery)
+                    .map(version -> toETag(version.getOrderStatus(), version.getOrderVersion()));
+            if (eTag.isPresent() && matches(ifNoneMatch, eTag.get())) {
+                log.debug("Order status with tracking id: {} not modified", trackingId);
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get())
+                        .cacheControl(CacheControl.noCache())
+                        .build());
+            }
+        }
+
+        return this.orderApplicationService.trackOrderAsync(trackOrderQuery)
+                .thenApply(trackOrderResponse -> {
+                    log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
+                    return ResponseEntity.ok()
+                            .eTag(toETag(trackOrderResponse.getOrderStatus(), trackOrderResponse.getOrderVersion()))
+                            .cacheControl(CacheControl.noCache())
+                            .body(trackOrderResponse);
+                });
+    }
+
+    private static String toETag(OrderStatus orderStatus, Long orderVersion) {
+        return "\"" + orderStatus + "-" + Long.toString(orderVersion, Character.MAX_RADIX) + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag));
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.food.ordering.system.order.service.application.sse;
+
+import com.food.ordering.system.order.service.application.sse.config.OrderEventsConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingUpdatePublisher;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class OrderStatusEventRegistry implements OrderTrackingUpdatePublisher {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final OrderEventsConfigData orderEventsConfigData;
+    private final OrderDataMapper orderDataMapper;
+    private final Map<UUID, Set<OrderStatusSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService dispatchers;
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+    private final Counter rejectedConnections;
+
+    public OrderStatusEventRegistry(OrderEventsConfigData orderEventsConfigData,
+                                    OrderDataMapper orderDataMapper,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.orderEventsConfigData = orderEventsConfigData;
+        this.orderDataMapper = orderDataMapper;
+        final var threadCounter = new AtomicInteger();
+        this.dispatchers = Executors.newFixedThreadPool(orderEventsConfigData.getDispatchThreads(), runnable -> {
+            final var thread = new Thread(runnable, "order-events-dispatch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        registry.gauge("order.events.connections", this.connections);
+        this.sentEvents = registry.counter("order.events.sent");
+        this.droppedEvents = registry.counter("order.events.dropped");
+        this.rejectedConnections = registry.counter("order.events.rejected");
+    }
+
+    public SseEmitter subscribe(UUID trackingId, Supplier<TrackOrderResponse> currentStatus) {
+        if (this.connections.incrementAndGet() > this.orderEventsConfigData.getMaxConnections()) {
+            this.connections.decrementAndGet();
+            this.rejectedConnections.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many order status subscriptions!");
+        }
+
+        final var emitter = new SseEmitter(this.orderEventsConfigData.getEmitterTimeoutMs());
+        final var subscription = new OrderStatusSubscription(trackingId, emitter, this.orderEventsConfigData.getBufferSize());
+        this.subscriptions.computeIfAbsent(trackingId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        emitter.onCompletion(() -> this.unsubscribe(subscription));
+        emitter.onTimeout(() -> this.unsubscribe(subscription));
+        emitter.onError(error -> this.unsubscribe(subscription));
+
+        try {
+            if (subscription.offerInitial(currentStatus.get()))
+                this.dispatch(subscription);
+        } catch (RuntimeException e) {
+            this.unsubscribe(subscription);
+            throw e;
+        }
+        log.debug("Order status subscription opened for tracking id: {}", trackingId);
+        return emitter;
+    }
+
+    @Override
+    public void publish(List<OrderTrackingView> orderTrackingViews) {
+        orderTrackingViews.forEach(orderTrackingView -> {
+            final var trackingSubscriptions = this.subscriptions.get(orderTrackingView.getTrackingId().getValue());
+            if (trackingSubscriptions == null)
+                return;
+            final var event = this.orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView);
+            trackingSubscriptions.forEach(subscription -> {
+                if (!subscription.offer(event))
+                    this.droppedEvents.increment();
+                this.dispatch(subscription);
+            });
+        });
+    }
+
+    private void dispatch(OrderStatusSubscription subscription) {
+        if (subscription.startDraining())
+            this.dispatchers.execute(() -> this.drain(subscription));
+    }
+
+    private void drain(OrderStatusSubscription subscription) {
+        try {
+            TrackOrderResponse event;
+            while ((event = subscription.poll()) != null) {
+                subscription.getEmitter().send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(event.getOrderStatus().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+                this.sentEvents.increment();
+                if (isFinal(event.getOrderStatus())) {
+                    subscription.getEmitter().complete();
+                    this.unsubscribe(subscription);
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Order status subscription for tracking id: {} closed: {}", subscription.getTrackingId(), e.getMessage());
+            this.unsubscribe(subscription);
+            return;
+        } finally {
+            subscription.stopDraining();
+        }
+        if (subscription.hasPending())
+            this.dispatch(subscription);
+    }
+
+    private void unsubscribe(OrderStatusSubscription subscription) {
+        if (!subscription.close())
+            return;
+        this.connections.decrementAndGet();
+        this.subscriptions.computeIfPresent(subscription.getTrackingId(), (trackingId, trackingSubscriptions) -> {
+            trackingSubscriptions.remove(subscription);
+            return trackingSubscriptions.isEmpty() ? null : trackingSubscriptions;
+        });
+    }
+
+    private static boolean isFinal(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED;
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Closing {} order status subscriptions!", this.connections.get());
+        this.subscriptions.values().forEach(trackingSubscriptions -> trackingSubscriptions
+                .forEach(subscription -> subscription.getEmitter().complete()));
+        this.dispatchers.shutdown();
+    }
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.order.service.application.sse;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class OrderStatusSubscription {
+
+    private final UUID trackingId;
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final Deque<TrackOrderResponse> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private boolean received;
+
+    OrderStatusSubscription(UUID trackingId, SseEmitter emitter, int bufferSize) {
+        this.trackingId = trackingId;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+    UUID getTrackingId() {
+        return trackingId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    synchronized boolean offer(TrackOrderResponse event) {
+        this.received = true;
+        final var overflow = this.buffer.size() >= this.bufferSize;
+        if (overflow)
+            this.buffer.pollFirst();
+        this.buffer.addLast(event);
+        return !overflow;
+    }
+
+    synchronized boolean offerInitial(TrackOrderResponse event) {
+        if (this.received)
+            return false;
+        this.received = true;
+        this.buffer.addLast(event);
+        return true;
+    }
+
+    synchronized TrackOrderResponse poll() {
+        return this.buffer.pollFirst();
+    }
+
+    synchronized boolean hasPending() {
+        return !this.buffer.isEmpty();
+    }
+
+    boolean startDraining() {
+        return this.draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        this.draining.set(false);
+    }
+
+    boolean close() {
+        return this.closed.compareAndSet(false, true);
+    }
+}
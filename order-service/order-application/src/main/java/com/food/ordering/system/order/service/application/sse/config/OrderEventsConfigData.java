@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.application.sse.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-events-config")
+public class OrderEventsConfigData {
+    private Long emitterTimeoutMs;
+    private Integer bufferSize;
+    private Integer maxConnections;
+    private Integer dispatchThreads;
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public final class BenchmarkRunner {
+
+    private static final String PROFILER_OPTION = "-prof";
+    private static final String GC_PROFILER = "gc";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(hasGcProfiler(args) ? args :
+                Stream.concat(Stream.of(PROFILER_OPTION, GC_PROFILER), Arrays.stream(args)).toArray(String[]::new));
+    }
+
+    private static boolean hasGcProfiler(String[] args) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (PROFILER_OPTION.equals(args[i]) && args[i + 1].startsWith(GC_PROFILER))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.id.RandomIdGenerator;
+import com.food.ordering.system.order.service.domain.id.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = new RandomIdGenerator();
+    private final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+
+    @Benchmark
+    public UUID random() {
+        return this.random.generate();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return this.timeOrdered.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomContended() {
+        return this.random.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID timeOrderedContended() {
+        return this.timeOrdered.generate();
+    }
+}
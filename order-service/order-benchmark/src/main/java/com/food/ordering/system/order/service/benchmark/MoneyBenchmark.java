@@ -0,0 +1,76 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private Money[] prices;
+    private Money[] subTotals;
+    private BigDecimal[] priceAmounts;
+    private BigDecimal[] subTotalAmounts;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        this.order = OrderFixtures.order(this.itemCount);
+        this.prices = new Money[this.itemCount];
+        this.subTotals = new Money[this.itemCount];
+        this.priceAmounts = new BigDecimal[this.itemCount];
+        this.subTotalAmounts = new BigDecimal[this.itemCount];
+        this.quantities = new int[this.itemCount];
+        for (int i = 0; i < this.itemCount; i++) {
+            this.quantities[i] = OrderFixtures.quantity(i);
+            this.prices[i] = OrderFixtures.price(i);
+            this.subTotals[i] = this.prices[i].multiply(this.quantities[i]);
+            this.priceAmounts[i] = OrderFixtures.amount(i);
+            this.subTotalAmounts[i] = this.subTotals[i].getAmount();
+        }
+    }
+
+    // Mirrors the previous BigDecimal-backed Money: a setScale per operation and a BigDecimal per multiply.
+    @Benchmark
+    public BigDecimal bigDecimalItemsTotal() {
+        var total = BigDecimal.ZERO;
+        for (int i = 0; i < this.itemCount; i++) {
+            final var subTotal = this.priceAmounts[i].multiply(new BigDecimal(this.quantities[i]))
+                    .setScale(2, RoundingMode.HALF_EVEN);
+            if (!subTotal.equals(this.subTotalAmounts[i]))
+                throw new IllegalStateException();
+            total = total.add(subTotal).setScale(2, RoundingMode.HALF_EVEN);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyItemsTotal() {
+        var total = Money.ZERO;
+        for (int i = 0; i < this.itemCount; i++) {
+            if (!this.prices[i].multiply(this.quantities[i]).equals(this.subTotals[i]))
+                throw new IllegalStateException();
+            total = total.add(this.subTotals[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        this.order.validateOrder();
+        return this.order;
+    }
+}
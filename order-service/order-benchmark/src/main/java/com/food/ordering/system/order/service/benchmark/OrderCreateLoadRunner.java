@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class OrderCreateLoadRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int IO_THREADS = 4;
+
+    private OrderCreateLoadRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 6) {
+            System.err.println("Usage: OrderCreateLoadRunner baseUrl customerId restaurantId productId clients durationSeconds [warmUpSeconds]");
+            System.exit(1);
+        }
+        final var request = HttpRequest.newBuilder(URI.create(args[0] + "/orders"))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(orderBody(args[1], args[2], args[3])))
+                .build();
+        final var clients = Integer.parseInt(args[4]);
+        final var httpClient = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(IO_THREADS))
+                .build();
+
+        if (args.length > 6)
+            run(httpClient, request, clients, Duration.ofSeconds(Long.parseLong(args[6])));
+        final var result = run(httpClient, request, clients, Duration.ofSeconds(Long.parseLong(args[5])));
+        System.out.println(result);
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient httpClient, HttpRequest request, int clients, Duration duration)
+            throws InterruptedException {
+        final var result = new Result(clients);
+        final var deadline = System.nanoTime() + duration.toNanos();
+        final var done = new CountDownLatch(clients);
+        final var start = System.nanoTime();
+        for (int i = 0; i < clients; i++)
+            send(httpClient, request, deadline, result, done);
+        done.await();
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static void send(HttpClient httpClient, HttpRequest request, long deadline, Result result, CountDownLatch done) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        final var start = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (failure == null && response.statusCode() == 200)
+                result.latencies.add(System.nanoTime() - start);
+            else
+                result.errors.incrementAndGet();
+            send(httpClient, request, deadline, result, done);
+        });
+    }
+
+    private static String orderBody(String customerId, String restaurantId, String productId) {
+        return "{\"customerId\":\"" + customerId + "\",\"restaurantId\":\"" + restaurantId + "\",\"price\":20.00," +
+                "\"items\":[{\"productId\":\"" + productId + "\",\"quantity\":2,\"price\":10.00,\"subTotal\":20.00}]," +
+                "\"address\":{\"street\":\"street\",\"postalCode\":\"1000AB\",\"city\":\"city\"}}";
+    }
+
+    private static final class Result {
+
+        private final int clients;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+        private long elapsedNanos;
+
+        private Result(int clients) {
+            this.clients = clients;
+        }
+
+        @Override
+        public String toString() {
+            final var sorted = this.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            final var seconds = this.elapsedNanos / 1e9;
+            return String.format("%d clients: %d ok, %d errors, %.0f req/s, p50 %.1f ms, p99 %.1f ms",
+                    this.clients, sorted.length, this.errors.get(), sorted.length / seconds,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)];
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.id.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDataAccessMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"10", "500"})
+    private int menuSize;
+
+    private final OrderDataAccessMapper orderDataAccessMapper = new OrderDataAccessMapper();
+
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        final var products = OrderFixtures.products(this.menuSize);
+        this.order = OrderFixtures.order(products, this.itemCount);
+        this.order.initializeOrder(new TimeOrderedIdGenerator());
+        this.orderEntity = this.orderDataAccessMapper.orderToOrderEntity(this.order);
+    }
+
+    @Benchmark
+    public OrderEntity orderToOrderEntity() {
+        return this.orderDataAccessMapper.orderToOrderEntity(this.order);
+    }
+
+    @Benchmark
+    public Order orderEntityToOrder() {
+        return this.orderDataAccessMapper.orderEntityToOrder(this.orderEntity);
+    }
+
+    @Benchmark
+    public Order roundTrip() {
+        return this.orderDataAccessMapper.orderEntityToOrder(this.orderDataAccessMapper.orderToOrderEntity(this.order));
+    }
+}
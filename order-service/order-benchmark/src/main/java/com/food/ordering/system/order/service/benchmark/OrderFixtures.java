@@ -0,0 +1,104 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class OrderFixtures {
+
+    private static final long BASE_PRICE_CENTS = 1050L;
+
+    private OrderFixtures() {
+    }
+
+    public static List<Product> products(final int productCount) {
+        final var products = new ArrayList<Product>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(new Product(new ProductId(UUID.randomUUID()), "product-" + i, price(i)));
+        }
+        return products;
+    }
+
+    public static Restaurant restaurant(final List<Product> products) {
+        return Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(products)
+                .active(true)
+                .build();
+    }
+
+    public static Order order(final int itemCount) {
+        return order(products(itemCount), itemCount);
+    }
+
+    public static Order order(final List<Product> products, final int itemCount) {
+        final var items = new ArrayList<OrderItem>(itemCount);
+        var total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            final var product = products.get(i % products.size());
+            final var quantity = quantity(i);
+            final var subTotal = product.getPrice().multiply(quantity);
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(product.getId(), product.getName(), product.getPrice()))
+                    .price(product.getPrice())
+                    .quantity(quantity)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        return Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(total)
+                .items(items)
+                .build();
+    }
+
+    public static CreateOrderCommand createOrderCommand(final Restaurant restaurant, final int itemCount) {
+        final var products = restaurant.getProducts();
+        final var items = new ArrayList<com.food.ordering.system.order.service.domain.dto.create.OrderItem>(itemCount);
+        var total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            final var product = products.get((int) ((long) i * products.size() / itemCount) % products.size());
+            final var quantity = quantity(i);
+            final var price = product.getPrice().getAmount();
+            final var subTotal = price.multiply(BigDecimal.valueOf(quantity));
+            items.add(com.food.ordering.system.order.service.domain.dto.create.OrderItem.builder()
+                    .productId(product.getId().getValue())
+                    .quantity(quantity)
+                    .price(price)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(restaurant.getId().getValue())
+                .price(total)
+                .items(items)
+                .address(OrderAddress.builder().street("street").postalCode("1000AB").city("city").build())
+                .build();
+    }
+
+    public static Money price(final int index) {
+        return Money.ofCents(BASE_PRICE_CENTS + index);
+    }
+
+    public static BigDecimal amount(final int index) {
+        return BigDecimal.valueOf(BASE_PRICE_CENTS + index, 2);
+    }
+
+    public static int quantity(final int index) {
+        return 1 + index % 3;
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderHotPathBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"10", "500"})
+    private int menuSize;
+
+    private final IdGenerator idGenerator = new TimeOrderedIdGenerator();
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper(this.idGenerator);
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(this.idGenerator);
+
+    private Restaurant restaurant;
+    private CreateOrderCommand command;
+    private Order uninitializedOrder;
+
+    @Setup
+    public void setUp() {
+        this.restaurant = OrderFixtures.restaurant(OrderFixtures.products(this.menuSize));
+        this.command = OrderFixtures.createOrderCommand(this.restaurant, this.itemCount);
+        this.uninitializedOrder = OrderFixtures.order(this.restaurant.getProducts(), this.itemCount);
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return this.orderDataMapper.createOrderCommandToOrder(this.command);
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        this.uninitializedOrder.validateOrder();
+        return this.uninitializedOrder;
+    }
+
+    // initializeOrder is one-shot per aggregate, so each invocation maps a fresh order first;
+    // subtract createOrderCommandToOrder for the initialization cost alone.
+    @Benchmark
+    public Order initializeOrder() {
+        final var order = this.orderDataMapper.createOrderCommandToOrder(this.command);
+        order.initializeOrder(this.idGenerator);
+        return order;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        final var order = this.orderDataMapper.createOrderCommandToOrder(this.command);
+        return this.orderDomainService.validateAndInitiateOrder(order, this.restaurant);
+    }
+}
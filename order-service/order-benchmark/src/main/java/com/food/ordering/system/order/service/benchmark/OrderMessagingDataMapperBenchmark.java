@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.kafka.order.avro.model.*;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMessagingDataMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"10", "500"})
+    private int menuSize;
+
+    private final IdGenerator idGenerator = new TimeOrderedIdGenerator();
+    private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper(this.idGenerator);
+
+    private OrderCreatedEvent orderCreatedEvent;
+    private OrderPaidEvent orderPaidEvent;
+    private OrderPaymentOutboxMessage orderPaymentOutboxMessage;
+    private PaymentResponseAvroModel paymentResponseAvroModel;
+    private RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel;
+
+    @Setup
+    public void setUp() {
+        final var order = OrderFixtures.order(OrderFixtures.products(this.menuSize), this.itemCount);
+        order.initializeOrder(this.idGenerator);
+        final var createdAt = ZonedDateTime.now(ZoneId.of(UTC));
+        this.orderCreatedEvent = new OrderCreatedEvent(order, createdAt);
+        this.orderPaidEvent = new OrderPaidEvent(order, createdAt);
+        this.orderPaymentOutboxMessage = new OrderDataMapper(this.idGenerator).orderCreatedEventToOrderPaymentOutboxMessage(this.orderCreatedEvent);
+        this.paymentResponseAvroModel = PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId("")
+                .setPaymentId(UUID.randomUUID().toString())
+                .setCustomerId(order.getCustomerId().getValue().toString())
+                .setOrderId(order.getId().getValue().toString())
+                .setPrice(order.getPrice().getAmount())
+                .setCreatedAt(Instant.now())
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of())
+                .build();
+        this.restaurantApprovalResponseAvroModel = RestaurantApprovalResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId("")
+                .setRestaurantId(order.getRestaurantId().getValue().toString())
+                .setOrderId(order.getId().getValue().toString())
+                .setCreatedAt(Instant.now())
+                .setOrderApprovalStatus(OrderApprovalStatus.APPROVED)
+                .setFailureMessages(List.of())
+                .build();
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel() {
+        return this.orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(this.orderCreatedEvent);
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModel orderPaymentOutboxMessageToPaymentRequestAvroModel() {
+        return this.orderMessagingDataMapper.orderPaymentOutboxMessageToPaymentRequestAvroModel(this.orderPaymentOutboxMessage);
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel() {
+        return this.orderMessagingDataMapper.orderPaidEventoToRestaurantApprovalRequestAvroModel(this.orderPaidEvent);
+    }
+
+    @Benchmark
+    public PaymentResponse paymentResponseAvroModelToPaymentResponse() {
+        return this.orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(this.paymentResponseAvroModel);
+    }
+
+    @Benchmark
+    public RestaurantApprovalResponse restaurantApprovalAvroModelToRestaurantApprovalResponse() {
+        return this.orderMessagingDataMapper
+                .restaurantApprovalAvroModelToRestaurantApprovalResponse(this.restaurantApprovalResponseAvroModel);
+    }
+}
@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.benchmark;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductLookupBenchmark {
+
+    @Param({"10", "500", "5000"})
+    private int menuSize;
+
+    @Param({"10"})
+    private int itemCount;
+
+    private List<Product> menu;
+    private Restaurant restaurant;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        this.menu = OrderFixtures.products(this.menuSize);
+        this.restaurant = OrderFixtures.restaurant(this.menu);
+        this.order = OrderFixtures.order(this.menu.subList(this.menuSize - Math.min(this.menuSize, this.itemCount),
+                this.menuSize), this.itemCount);
+    }
+
+    // The previous OrderDomainServiceImpl enrichment: every item scans the whole menu.
+    @Benchmark
+    public Order nestedScan() {
+        this.order.getItems().forEach(orderItem -> this.restaurant.getProducts().forEach(restaurantProduct -> {
+            final var currentProduct = orderItem.getProduct();
+            if (currentProduct.equals(restaurantProduct))
+                currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+        }));
+        return this.order;
+    }
+
+    @Benchmark
+    public Order indexedLookup() {
+        this.order.getItems().forEach(orderItem -> {
+            final var currentProduct = orderItem.getProduct();
+            this.restaurant.findProduct(currentProduct.getId()).ifPresent(restaurantProduct ->
+                    currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice()));
+        });
+        return this.order;
+    }
+
+    @Benchmark
+    public Restaurant buildIndex() {
+        return OrderFixtures.restaurant(this.menu);
+    }
+}
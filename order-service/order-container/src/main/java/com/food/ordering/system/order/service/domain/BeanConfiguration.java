@@ -1,13 +1,41 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@Slf4j
 @Configuration
+@EnableScheduling
 public class BeanConfiguration {
 
     @Bean
-    public OrderDomainService orderDomainService() {
-        return new OrderDomainServiceImpl();
+    public IdGenerator idGenerator() {
+        return new TimeOrderedIdGenerator();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public OrderDomainService orderDomainService(IdGenerator idGenerator) {
+        return new OrderDomainServiceImpl(idGenerator);
+    }
+
+    @Bean
+    public TaskSchedulerCustomizer virtualThreadTaskSchedulerCustomizer(OrderServiceConfigData orderServiceConfigData) {
+        return taskScheduler -> {
+            if (!Boolean.TRUE.equals(orderServiceConfigData.getVirtualThreadsEnabled()))
+                return;
+            if (!VirtualThreads.isSupported()) {
+                log.warn("Virtual threads are not available on Java {}, running on platform threads!",
+                        Runtime.version().feature());
+                return;
+            }
+            VirtualThreads.threadFactory("order-scheduling-").ifPresent(taskScheduler::setThreadFactory);
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.endpoint;
+
+import com.food.ordering.system.order.service.domain.dto.track.RebuildOrderTrackingResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Endpoint(id = "ordertracking")
+public class OrderTrackingEndpoint {
+
+    private final OrderApplicationService orderApplicationService;
+
+    public OrderTrackingEndpoint(OrderApplicationService orderApplicationService) {
+        this.orderApplicationService = orderApplicationService;
+    }
+
+    @WriteOperation
+    public RebuildOrderTrackingResponse rebuild() {
+        log.info("Order tracking rebuild requested through the management endpoint");
+        RebuildOrderTrackingResponse rebuildOrderTrackingResponse = this.orderApplicationService.rebuildOrderTracking();
+        log.info("Order tracking rebuilt for {} orders in {} chunks", rebuildOrderTrackingResponse.getRebuiltOrders(),
+                rebuildOrderTrackingResponse.getChunks());
+        return rebuildOrderTrackingResponse;
+    }
+}
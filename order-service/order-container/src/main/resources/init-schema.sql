@@ -22,6 +22,10 @@ CREATE TABLE "order".orders
     CONSTRAINT orders_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "orders_tracking_id_idx"
+    ON "order".orders
+    (tracking_id);
+
 DROP TABLE IF EXISTS "order".order_items CASCADE;
 
 CREATE TABLE "order".order_items
@@ -59,4 +63,64 @@ ALTER TABLE "order".order_address
         REFERENCES "order".orders (id) MATCH SIMPLE
         ON UPDATE NO ACTION
         ON DELETE CASCADE
-    NOT VALID;
\ No newline at end of file
+    NOT VALID;
+
+DROP TABLE IF EXISTS "order".payment_outbox CASCADE;
+
+CREATE TABLE "order".payment_outbox
+(
+    id                   uuid                                           NOT NULL,
+    order_id             uuid                                           NOT NULL,
+    customer_id          uuid                                           NOT NULL,
+    price                numeric(10, 2)                                 NOT NULL,
+    created_at           TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    payment_order_status character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "payment_outbox_created_at_idx"
+    ON "order".payment_outbox
+    (created_at);
+
+DROP TABLE IF EXISTS "order".restaurant_approval_outbox CASCADE;
+
+CREATE TABLE "order".restaurant_approval_outbox
+(
+    id            uuid                                           NOT NULL,
+    order_id      uuid                                           NOT NULL,
+    restaurant_id uuid                                           NOT NULL,
+    price         numeric(10, 2)                                 NOT NULL,
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    products      character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT restaurant_approval_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "restaurant_approval_outbox_created_at_idx"
+    ON "order".restaurant_approval_outbox
+    (created_at);
+
+DROP TABLE IF EXISTS "order".processed_messages CASCADE;
+
+CREATE TABLE "order".processed_messages
+(
+    id           uuid                     NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "processed_messages_processed_at_idx"
+    ON "order".processed_messages
+    (processed_at);
+
+DROP TABLE IF EXISTS "order".order_tracking CASCADE;
+
+CREATE TABLE "order".order_tracking
+(
+    tracking_id      uuid                                           NOT NULL,
+    order_id         uuid                                           NOT NULL,
+    order_status     order_status                                   NOT NULL,
+    failure_messages character varying COLLATE pg_catalog."default",
+    created_at       TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
\ No newline at end of file
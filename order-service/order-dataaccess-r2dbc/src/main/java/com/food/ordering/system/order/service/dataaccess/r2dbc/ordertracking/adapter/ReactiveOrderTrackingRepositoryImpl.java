@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.mapper.OrderTrackingR2dbcDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.repository.OrderTrackingR2dbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ReactiveOrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Component
+@Profile("reactive")
+public class ReactiveOrderTrackingRepositoryImpl implements ReactiveOrderTrackingRepository {
+
+    private final OrderTrackingR2dbcRepository orderTrackingR2dbcRepository;
+    private final OrderTrackingR2dbcDataAccessMapper orderTrackingR2dbcDataAccessMapper;
+
+    public ReactiveOrderTrackingRepositoryImpl(OrderTrackingR2dbcRepository orderTrackingR2dbcRepository,
+                                               OrderTrackingR2dbcDataAccessMapper orderTrackingR2dbcDataAccessMapper) {
+        this.orderTrackingR2dbcRepository = orderTrackingR2dbcRepository;
+        this.orderTrackingR2dbcDataAccessMapper = orderTrackingR2dbcDataAccessMapper;
+    }
+
+    @Override
+    public Mono<OrderTrackingView> findByTrackingId(TrackingId trackingId) {
+        return orderTrackingR2dbcRepository.findByTrackingId(trackingId.getValue())
+                .map(orderTrackingR2dbcDataAccessMapper::orderTrackingR2dbcEntityToOrderTrackingView);
+    }
+
+    @Override
+    public Flux<OrderTrackingView> findByTrackingIds(Collection<TrackingId> trackingIds) {
+        if (trackingIds.isEmpty())
+            return Flux.empty();
+        return orderTrackingR2dbcRepository.findByTrackingIds(trackingIds.stream().map(TrackingId::getValue).toList())
+                .map(orderTrackingR2dbcDataAccessMapper::orderTrackingR2dbcEntityToOrderTrackingView);
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("order_tracking")
+public class OrderTrackingR2dbcEntity {
+
+    @Id
+    private UUID trackingId;
+    private UUID orderId;
+    private String orderStatus;
+    private String failureMessages;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderTrackingR2dbcEntity that = (OrderTrackingR2dbcEntity) o;
+        return trackingId.equals(that.trackingId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackingId);
+    }
+}
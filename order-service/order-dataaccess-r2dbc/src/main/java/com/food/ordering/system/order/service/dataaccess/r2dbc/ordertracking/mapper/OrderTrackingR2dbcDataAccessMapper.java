@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.entity.OrderTrackingR2dbcEntity;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
+@Component
+@Profile("reactive")
+public class OrderTrackingR2dbcDataAccessMapper {
+
+    public OrderTrackingView orderTrackingR2dbcEntityToOrderTrackingView(OrderTrackingR2dbcEntity entity) {
+        return OrderTrackingView.builder()
+                .trackingId(new TrackingId(entity.getTrackingId()))
+                .orderId(new OrderId(entity.getOrderId()))
+                .orderStatus(OrderStatus.valueOf(entity.getOrderStatus()))
+                .failureMessages(failureMessagesToList(entity.getFailureMessages()))
+                .createdAt(entity.getCreatedAt().toZonedDateTime())
+                .updatedAt(entity.getUpdatedAt().toZonedDateTime())
+                .build();
+    }
+
+    private List<String> failureMessagesToList(String failureMessages) {
+        return failureMessages == null || failureMessages.isEmpty() ? new ArrayList<>() :
+                new ArrayList<>(Arrays.asList(failureMessages.split(FAILURE_MESSAGE_DELIMITER)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.r2dbc.ordertracking.entity.OrderTrackingR2dbcEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface OrderTrackingR2dbcRepository extends R2dbcRepository<OrderTrackingR2dbcEntity, UUID> {
+
+    String SELECT_ORDER_TRACKING = "SELECT tracking_id, order_id, CAST(order_status AS varchar) AS order_status, " +
+            "failure_messages, created_at, updated_at FROM \"order\".order_tracking ";
+
+    @Query(SELECT_ORDER_TRACKING + "WHERE tracking_id = :trackingId")
+    Mono<OrderTrackingR2dbcEntity> findByTrackingId(@Param("trackingId") UUID trackingId);
+
+    @Query(SELECT_ORDER_TRACKING + "WHERE tracking_id IN (:trackingIds)")
+    Flux<OrderTrackingR2dbcEntity> findByTrackingIds(@Param("trackingIds") Collection<UUID> trackingIds);
+}
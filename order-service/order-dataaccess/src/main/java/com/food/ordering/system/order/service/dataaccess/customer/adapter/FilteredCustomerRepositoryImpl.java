@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.customer.config.CustomerFilterConfigData;
+import com.food.ordering.system.order.service.dataaccess.customer.filter.CustomerBloomFilter;
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.valueobject.CustomerId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "customer-filter-config", name = "enabled", havingValue = "true")
+public class FilteredCustomerRepositoryImpl implements CustomerRepository {
+
+    private final CustomerJpaRepository customerJpaRepository;
+    private final CustomerFilterConfigData customerFilterConfigData;
+    private final Cache<UUID, Customer> confirmedCustomers;
+    private final ScheduledExecutorService rebuildExecutor;
+    private final Counter filterRejections;
+    private final Counter staleFilterHits;
+
+    private volatile CustomerBloomFilter customerFilter;
+
+    public FilteredCustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository,
+                                          CustomerFilterConfigData customerFilterConfigData,
+                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.customerJpaRepository = customerJpaRepository;
+        this.customerFilterConfigData = customerFilterConfigData;
+        this.confirmedCustomers = Caffeine.newBuilder()
+                .maximumSize(customerFilterConfigData.getPositiveCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(customerFilterConfigData.getPositiveCacheExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        this.rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(registry, this.confirmedCustomers, "confirmed-customers");
+        this.filterRejections = registry.counter("customer.filter.rejections");
+        this.staleFilterHits = registry.counter("customer.filter.stale");
+    }
+
+    @PostConstruct
+    public void scheduleRebuild() {
+        this.rebuildExecutor.scheduleWithFixedDelay(this::rebuildFilter, 0,
+                this.customerFilterConfigData.getRebuildIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Closing customer filter rebuild executor!");
+        this.rebuildExecutor.shutdownNow();
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+        Customer confirmedCustomer = this.confirmedCustomers.getIfPresent(customerId);
+        if (confirmedCustomer != null)
+            return Optional.of(confirmedCustomer);
+
+        CustomerBloomFilter filter = this.customerFilter;
+        boolean filterNegative = filter != null && !filter.mightContain(customerId);
+        if (filterNegative && !this.customerFilterConfigData.getVerifyNegatives()) {
+            this.filterRejections.increment();
+            return Optional.empty();
+        }
+
+        if (!this.customerJpaRepository.existsById(customerId))
+            return Optional.empty();
+
+        if (filterNegative) {
+            log.warn("Customer with id: {} is missing from the customer filter, it will be added", customerId);
+            this.staleFilterHits.increment();
+            filter.put(customerId);
+        }
+        Customer customer = new Customer(new CustomerId(customerId));
+        this.confirmedCustomers.put(customerId, customer);
+        return Optional.of(customer);
+    }
+
+    private void rebuildFilter() {
+        try {
+            long customerCount = this.customerJpaRepository.count();
+            CustomerBloomFilter filter = new CustomerBloomFilter(
+                    Math.max(this.customerFilterConfigData.getExpectedInsertions(),
+                            customerCount * this.customerFilterConfigData.getExpectedInsertionsGrowthFactor()),
+                    this.customerFilterConfigData.getFalsePositiveProbability());
+
+            int batchSize = this.customerFilterConfigData.getWarmUpBatchSize();
+            long loaded = 0;
+            List<UUID> customerIds = this.customerJpaRepository.findIds(PageRequest.of(0, batchSize));
+            while (!customerIds.isEmpty()) {
+                customerIds.forEach(filter::put);
+                loaded += customerIds.size();
+                if (customerIds.size() < batchSize)
+                    break;
+                customerIds = this.customerJpaRepository.findIdsAfter(customerIds.get(customerIds.size() - 1),
+                        PageRequest.of(0, batchSize));
+            }
+
+            this.customerFilter = filter;
+            log.info("Customer filter rebuilt with {} customer ids", loaded);
+        } catch (Exception e) {
+            log.error("Error while rebuilding customer filter, keeping the previous one: {}", e.getMessage());
+        }
+    }
+}
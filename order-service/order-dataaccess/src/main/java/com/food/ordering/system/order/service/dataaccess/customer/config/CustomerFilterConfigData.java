@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.dataaccess.customer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "customer-filter-config")
+public class CustomerFilterConfigData {
+    private Boolean enabled;
+    private Long expectedInsertions;
+    private Integer expectedInsertionsGrowthFactor;
+    private Double falsePositiveProbability;
+    private Boolean verifyNegatives;
+    private Long positiveCacheMaximumSize;
+    private Long positiveCacheExpireAfterWriteMs;
+    private Long rebuildIntervalMs;
+    private Integer warmUpBatchSize;
+}
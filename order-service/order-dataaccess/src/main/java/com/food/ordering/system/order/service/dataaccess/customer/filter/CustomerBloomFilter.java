@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.dataaccess.customer.filter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class CustomerBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public CustomerBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        final long insertions = Math.max(1L, expectedInsertions);
+        final long bits = Math.max(64L, (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2)));
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+        this.bitSize = this.words.length() * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) this.bitSize / insertions * LN_2));
+    }
+
+    public void put(UUID customerId) {
+        final long hash1 = hash1(customerId);
+        final long hash2 = hash2(customerId);
+        for (int i = 0; i < this.hashFunctions; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2, this.bitSize);
+            final int word = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long current = this.words.get(word);
+            while ((current & mask) == 0 && !this.words.compareAndSet(word, current, current | mask)) {
+                current = this.words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(UUID customerId) {
+        final long hash1 = hash1(customerId);
+        final long hash2 = hash2(customerId);
+        for (int i = 0; i < this.hashFunctions; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2, this.bitSize);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static long hash1(UUID customerId) {
+        return mix(customerId.getMostSignificantBits() ^ Long.rotateLeft(customerId.getLeastSignificantBits(), 32));
+    }
+
+    private static long hash2(UUID customerId) {
+        return mix(customerId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1L;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -1,11 +1,21 @@
 package com.food.ordering.system.order.service.dataaccess.customer.repository;
 
 import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
+
+    @Query("select c.id from CustomerEntity c order by c.id")
+    List<UUID> findIds(Pageable pageable);
+
+    @Query("select c.id from CustomerEntity c where c.id > :lastId order by c.id")
+    List<UUID> findIdsAfter(@Param("lastId") UUID lastId, Pageable pageable);
 }
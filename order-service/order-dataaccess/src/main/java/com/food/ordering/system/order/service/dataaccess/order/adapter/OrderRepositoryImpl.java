@@ -1,13 +1,17 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
@@ -27,9 +31,49 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .save(orderDataAccessMapper.orderToOrderEntity(order)));
     }
 
+    @Override
+    public Order create(Order order) {
+        OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+        orderEntity.setNewEntity(true);
+        orderJpaRepository.save(orderEntity);
+        return order;
+    }
+
+    @Override
+    public List<Order> createAll(List<Order> orders) {
+        List<OrderEntity> orderEntities = orders.stream()
+                .map(orderDataAccessMapper::orderToOrderEntity)
+                .toList();
+        orderEntities.forEach(orderEntity -> orderEntity.setNewEntity(true));
+        orderJpaRepository.saveAll(orderEntities);
+        return orders;
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public List<Order> findByIds(List<OrderId> orderIds) {
+        if (orderIds.isEmpty())
+            return List.of();
+        List<UUID> ids = orderIds.stream().map(OrderId::getValue).toList();
+        // orders must be managed before their items are fetched, the item key references the order
+        orderJpaRepository.findAllWithAddressByIdIn(ids);
+        return orderJpaRepository.findAllWithItemsByIdIn(ids).stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .toList();
+    }
+
+    @Override
+    public void updateStatuses(List<Order> orders) {
+        orders.forEach(order -> {
+            OrderEntity orderEntity = orderJpaRepository.getById(order.getId().getValue());
+            orderEntity.setOrderStatus(order.getOrderStatus());
+            orderEntity.setFailureMessages(orderDataAccessMapper.failureMessagesToString(order.getFailureMessages()));
+        });
+        orderJpaRepository.flush();
+    }
 }
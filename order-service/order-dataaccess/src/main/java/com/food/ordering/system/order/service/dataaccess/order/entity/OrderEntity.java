@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.dataaccess.order.entity;
 
 import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "orders")
 @Entity
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
     @Id
     private UUID id;
     private UUID customerId;
@@ -33,6 +34,20 @@ public class OrderEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItemEntity> items;
 
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -29,8 +29,7 @@ public class OrderDataAccessMapper {
                 .price(order.getPrice().getAmount())
                 .items(this.orderItemsToOrderItemEntities(order.getItems()))
                 .orderStatus(order.getOrderStatus())
-                .failureMessages(order.getFailureMessages() != null ?
-                        String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+                .failureMessages(this.failureMessagesToString(order.getFailureMessages()))
                 .build();
         orderEntity.getAddress().setOrder(orderEntity);
         orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
@@ -48,12 +47,19 @@ public class OrderDataAccessMapper {
                 .items(this.orderItemEntitiesToOrderItems(orderEntity.getItems()))
                 .trackingId(new TrackingId(orderEntity.getTrackingId()))
                 .orderStatus(orderEntity.getOrderStatus())
-                .failureMessages(orderEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
-                        new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages()
-                                .split(FAILURE_MESSAGE_DELIMITER))))
+                .failureMessages(this.failureMessagesToList(orderEntity.getFailureMessages()))
                 .build();
     }
 
+    public String failureMessagesToString(List<String> failureMessages) {
+        return failureMessages != null ? String.join(FAILURE_MESSAGE_DELIMITER, failureMessages) : "";
+    }
+
+    public List<String> failureMessagesToList(String failureMessages) {
+        return failureMessages == null || failureMessages.isEmpty() ? new ArrayList<>() :
+                new ArrayList<>(Arrays.asList(failureMessages.split(FAILURE_MESSAGE_DELIMITER)));
+    }
+
     private List<OrderItem> orderItemEntitiesToOrderItems(List<OrderItemEntity> items) {
         return items.stream()
                 .map(orderItemEntity -> OrderItem.Builder.builder()
@@ -2,8 +2,14 @@ package com.food.ordering.system.order.service.dataaccess.order.repository;
 
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +17,11 @@ import java.util.UUID;
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
     Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+    @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.address WHERE o.id IN :ids")
+    List<OrderEntity> findAllWithAddressByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<OrderEntity> findAllWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
 }
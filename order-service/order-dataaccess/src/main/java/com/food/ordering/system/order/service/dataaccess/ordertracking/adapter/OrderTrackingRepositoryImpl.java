@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.dataaccess.ordertracking.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.ordertracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.dataaccess.ordertracking.mapper.OrderTrackingDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.ordertracking.repository.OrderTrackingJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+    private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+    private final OrderTrackingDataAccessMapper orderTrackingDataAccessMapper;
+
+    public OrderTrackingRepositoryImpl(OrderTrackingJpaRepository orderTrackingJpaRepository,
+                                       OrderTrackingDataAccessMapper orderTrackingDataAccessMapper) {
+        this.orderTrackingJpaRepository = orderTrackingJpaRepository;
+        this.orderTrackingDataAccessMapper = orderTrackingDataAccessMapper;
+    }
+
+    @Override
+    public Optional<OrderTrackingView> findByTrackingId(TrackingId trackingId) {
+        return orderTrackingJpaRepository.findById(trackingId.getValue())
+                .map(orderTrackingDataAccessMapper::orderTrackingEntityToOrderTrackingView);
+    }
+
+    @Override
+    public List<OrderTrackingView> findByTrackingIds(Collection<TrackingId> trackingIds) {
+        return orderTrackingJpaRepository.findAllById(trackingIds.stream().map(TrackingId::getValue).toList())
+                .stream()
+                .map(orderTrackingDataAccessMapper::orderTrackingEntityToOrderTrackingView)
+                .toList();
+    }
+
+    @Override
+    public void createAll(List<OrderTrackingView> orderTrackingViews) {
+        orderTrackingJpaRepository.saveAll(orderTrackingViews.stream()
+                .map(orderTrackingDataAccessMapper::orderTrackingViewToOrderTrackingEntity)
+                .toList());
+    }
+
+    @Override
+    public List<OrderTrackingView> updateAll(List<OrderTrackingView> orderTrackingViews) {
+        Map<UUID, OrderTrackingEntity> trackedOrders = orderTrackingJpaRepository.findAllById(orderTrackingViews.stream()
+                        .map(view -> view.getTrackingId().getValue())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(OrderTrackingEntity::getTrackingId, Function.identity()));
+
+        List<OrderTrackingView> updatedOrders = new ArrayList<>(orderTrackingViews.size());
+        List<OrderTrackingEntity> missingOrders = new ArrayList<>();
+        orderTrackingViews.forEach(view -> {
+            OrderTrackingEntity entity = trackedOrders.get(view.getTrackingId().getValue());
+            if (entity != null) {
+                orderTrackingDataAccessMapper.updateOrderTrackingEntity(entity, view);
+                updatedOrders.add(orderTrackingDataAccessMapper.orderTrackingEntityToOrderTrackingView(entity));
+            } else {
+                missingOrders.add(orderTrackingDataAccessMapper.orderTrackingViewToOrderTrackingEntity(view));
+            }
+        });
+
+        if (!missingOrders.isEmpty()) {
+            log.warn("{} orders were missing from order tracking and have been added", missingOrders.size());
+            orderTrackingJpaRepository.saveAll(missingOrders);
+        }
+        return updatedOrders;
+    }
+
+    @Override
+    public List<OrderId> findRebuildChunkStarts(int chunkSize) {
+        return orderTrackingJpaRepository.findChunkStartIds(chunkSize).stream()
+                .map(orderId -> new OrderId(UUID.fromString(orderId)))
+                .toList();
+    }
+
+    @Override
+    public int rebuildChunk(OrderId fromOrderId, OrderId toOrderId, ZonedDateTime rebuiltAt) {
+        String fromId = fromOrderId.getValue().toString();
+        return orderTrackingJpaRepository.rebuildChunk(fromId,
+                toOrderId != null ? toOrderId.getValue().toString() : fromId,
+                toOrderId == null,
+                rebuiltAt);
+    }
+}
@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.dataaccess.ordertracking.entity;
+
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_tracking")
+@Entity
+public class OrderTrackingEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID trackingId;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String failureMessages;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime updatedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return trackingId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderTrackingEntity that = (OrderTrackingEntity) o;
+        return trackingId.equals(that.trackingId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackingId);
+    }
+}
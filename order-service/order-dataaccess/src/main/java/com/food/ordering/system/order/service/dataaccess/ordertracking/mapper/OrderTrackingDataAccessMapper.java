@@ -0,0 +1,46 @@
+package com.food.ordering.system.order.service.dataaccess.ordertracking.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.ordertracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderTrackingDataAccessMapper {
+
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    public OrderTrackingDataAccessMapper(OrderDataAccessMapper orderDataAccessMapper) {
+        this.orderDataAccessMapper = orderDataAccessMapper;
+    }
+
+    public OrderTrackingEntity orderTrackingViewToOrderTrackingEntity(OrderTrackingView view) {
+        return OrderTrackingEntity.builder()
+                .trackingId(view.getTrackingId().getValue())
+                .orderId(view.getOrderId().getValue())
+                .orderStatus(view.getOrderStatus())
+                .failureMessages(orderDataAccessMapper.failureMessagesToString(view.getFailureMessages()))
+                .createdAt(view.getCreatedAt() != null ? view.getCreatedAt() : view.getUpdatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
+    public OrderTrackingView orderTrackingEntityToOrderTrackingView(OrderTrackingEntity entity) {
+        return OrderTrackingView.builder()
+                .trackingId(new TrackingId(entity.getTrackingId()))
+                .orderId(new OrderId(entity.getOrderId()))
+                .orderStatus(entity.getOrderStatus())
+                .failureMessages(orderDataAccessMapper.failureMessagesToList(entity.getFailureMessages()))
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    public void updateOrderTrackingEntity(OrderTrackingEntity entity, OrderTrackingView view) {
+        entity.setOrderStatus(view.getOrderStatus());
+        entity.setFailureMessages(orderDataAccessMapper.failureMessagesToString(view.getFailureMessages()));
+        entity.setUpdatedAt(view.getUpdatedAt());
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.dataaccess.ordertracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.ordertracking.entity.OrderTrackingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderTrackingJpaRepository extends JpaRepository<OrderTrackingEntity, UUID> {
+
+    @Query(value = "SELECT CAST(id AS varchar) FROM (SELECT id, row_number() OVER (ORDER BY id) AS row_number " +
+            "FROM \"order\".orders) o WHERE MOD(o.row_number - 1, :chunkSize) = 0 ORDER BY id",
+            nativeQuery = true)
+    List<String> findChunkStartIds(@Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Query(value = "INSERT INTO \"order\".order_tracking " +
+            "(tracking_id, order_id, order_status, failure_messages, created_at, updated_at) " +
+            "SELECT tracking_id, id, order_status, failure_messages, :rebuiltAt, :rebuiltAt FROM \"order\".orders " +
+            "WHERE id >= CAST(:fromId AS uuid) AND (:lastChunk = true OR id < CAST(:toId AS uuid)) " +
+            "ON CONFLICT (tracking_id) DO UPDATE SET order_status = EXCLUDED.order_status, " +
+            "failure_messages = EXCLUDED.failure_messages, updated_at = EXCLUDED.updated_at " +
+            "WHERE \"order\".order_tracking.updated_at < EXCLUDED.updated_at",
+            nativeQuery = true)
+    int rebuildChunk(@Param("fromId") String fromId,
+                     @Param("toId") String toId,
+                     @Param("lastChunk") boolean lastChunk,
+                     @Param("rebuiltAt") ZonedDateTime rebuiltAt);
+}
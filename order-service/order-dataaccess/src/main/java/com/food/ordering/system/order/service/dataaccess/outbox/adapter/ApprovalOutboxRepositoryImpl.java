@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.ApprovalOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+
+    private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+    public ApprovalOutboxRepositoryImpl(ApprovalOutboxJpaRepository approvalOutboxJpaRepository,
+                                        ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper) {
+        this.approvalOutboxJpaRepository = approvalOutboxJpaRepository;
+        this.approvalOutboxDataAccessMapper = approvalOutboxDataAccessMapper;
+    }
+
+    @Override
+    public void saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        approvalOutboxJpaRepository.saveAll(orderApprovalOutboxMessages.stream()
+                .map(approvalOutboxDataAccessMapper::orderApprovalOutboxMessageToApprovalOutboxEntity)
+                .toList());
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> claimBatch(int batchSize) {
+        return approvalOutboxJpaRepository.claimBatch(batchSize).stream()
+                .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public void deleteByIds(List<UUID> ids) {
+        if (!ids.isEmpty())
+            approvalOutboxJpaRepository.deleteAllByIdInBatch(ids);
+    }
+}
@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    public PaymentOutboxRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository,
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+        this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
+        this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+    }
+
+    @Override
+    public void save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        paymentOutboxJpaRepository.save(paymentOutboxDataAccessMapper
+                .orderPaymentOutboxMessageToPaymentOutboxEntity(orderPaymentOutboxMessage));
+    }
+
+    @Override
+    public void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        paymentOutboxJpaRepository.saveAll(orderPaymentOutboxMessages.stream()
+                .map(paymentOutboxDataAccessMapper::orderPaymentOutboxMessageToPaymentOutboxEntity)
+                .toList());
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimBatch(int batchSize) {
+        return paymentOutboxJpaRepository.claimBatch(batchSize).stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public void deleteByIds(List<UUID> ids) {
+        if (!ids.isEmpty())
+            paymentOutboxJpaRepository.deleteAllByIdInBatch(ids);
+    }
+}
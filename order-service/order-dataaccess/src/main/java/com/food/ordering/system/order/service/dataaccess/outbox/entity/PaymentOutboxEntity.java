@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.entity;
+
+import com.food.ordering.system.order.service.domain.valueobject.PaymentOrderStatus;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "payment_outbox")
+@Entity
+public class PaymentOutboxEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+    private UUID orderId;
+    private UUID customerId;
+    private BigDecimal price;
+    private ZonedDateTime createdAt;
+    @Enumerated(EnumType.STRING)
+    private PaymentOrderStatus paymentOrderStatus;
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PaymentOutboxEntity that = (PaymentOutboxEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
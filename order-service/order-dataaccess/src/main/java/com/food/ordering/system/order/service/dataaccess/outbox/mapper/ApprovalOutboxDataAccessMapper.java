@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxProduct;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class ApprovalOutboxDataAccessMapper {
+
+    private static final String PRODUCT_DELIMITER = ",";
+    private static final String QUANTITY_DELIMITER = ":";
+
+    public ApprovalOutboxEntity orderApprovalOutboxMessageToApprovalOutboxEntity(OrderApprovalOutboxMessage message) {
+        return ApprovalOutboxEntity.builder()
+                .id(message.getId())
+                .orderId(message.getOrderId())
+                .restaurantId(message.getRestaurantId())
+                .price(message.getPrice())
+                .createdAt(message.getCreatedAt())
+                .products(this.productsToString(message.getProducts()))
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage approvalOutboxEntityToOrderApprovalOutboxMessage(ApprovalOutboxEntity entity) {
+        return OrderApprovalOutboxMessage.builder()
+                .id(entity.getId())
+                .orderId(entity.getOrderId())
+                .restaurantId(entity.getRestaurantId())
+                .price(entity.getPrice())
+                .createdAt(entity.getCreatedAt())
+                .products(this.productsToList(entity.getProducts()))
+                .build();
+    }
+
+    private String productsToString(List<OrderApprovalOutboxProduct> products) {
+        return products.stream()
+                .map(product -> product.getProductId() + QUANTITY_DELIMITER + product.getQuantity())
+                .collect(Collectors.joining(PRODUCT_DELIMITER));
+    }
+
+    private List<OrderApprovalOutboxProduct> productsToList(String products) {
+        if (products == null || products.isEmpty())
+            return List.of();
+        return Arrays.stream(products.split(PRODUCT_DELIMITER))
+                .map(product -> {
+                    final var parts = product.split(QUANTITY_DELIMITER);
+                    return OrderApprovalOutboxProduct.builder()
+                            .productId(UUID.fromString(parts[0]))
+                            .quantity(Integer.valueOf(parts[1]))
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity orderPaymentOutboxMessageToPaymentOutboxEntity(OrderPaymentOutboxMessage message) {
+        return PaymentOutboxEntity.builder()
+                .id(message.getId())
+                .orderId(message.getOrderId())
+                .customerId(message.getCustomerId())
+                .price(message.getPrice())
+                .createdAt(message.getCreatedAt())
+                .paymentOrderStatus(message.getPaymentOrderStatus())
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(PaymentOutboxEntity entity) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(entity.getId())
+                .orderId(entity.getOrderId())
+                .customerId(entity.getCustomerId())
+                .price(entity.getPrice())
+                .createdAt(entity.getCreatedAt())
+                .paymentOrderStatus(entity.getPaymentOrderStatus())
+                .build();
+    }
+}
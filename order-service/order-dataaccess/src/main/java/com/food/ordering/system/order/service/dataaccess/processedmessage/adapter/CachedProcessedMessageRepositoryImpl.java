@@ -0,0 +1,104 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.processedmessage.cache.ProcessedMessageWindow;
+import com.food.ordering.system.order.service.dataaccess.processedmessage.config.ProcessedMessageCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.processedmessage.entity.ProcessedMessageEntity;
+import com.food.ordering.system.order.service.dataaccess.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "processed-message-cache-config", name = "enabled", havingValue = "true")
+public class CachedProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final ProcessedMessageWindow processedMessageWindow;
+    private final Counter windowHits;
+    private final Counter windowRejections;
+
+    public CachedProcessedMessageRepositoryImpl(ProcessedMessageJpaRepository processedMessageJpaRepository,
+                                                ProcessedMessageCacheConfigData processedMessageCacheConfigData,
+                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.processedMessageJpaRepository = processedMessageJpaRepository;
+        this.processedMessageWindow = new ProcessedMessageWindow(processedMessageCacheConfigData.getBucketDurationMs(),
+                processedMessageCacheConfigData.getBuckets(),
+                processedMessageCacheConfigData.getMaximumSizePerBucket());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.windowHits = registry.counter("processed.message.window.hits");
+        this.windowRejections = registry.counter("processed.message.window.rejections");
+        registry.gauge("processed.message.window.size", this.processedMessageWindow, ProcessedMessageWindow::size);
+    }
+
+    @Override
+    public Set<UUID> findProcessedIds(Collection<UUID> messageIds) {
+        final long now = System.currentTimeMillis();
+        final Set<UUID> processedIds = new HashSet<>();
+        final List<UUID> unknownIds = new ArrayList<>(messageIds.size());
+        messageIds.forEach(messageId -> {
+            if (processedMessageWindow.contains(messageId, now))
+                processedIds.add(messageId);
+            else
+                unknownIds.add(messageId);
+        });
+        windowHits.increment(processedIds.size());
+
+        if (!unknownIds.isEmpty()) {
+            List<UUID> storedIds = processedMessageJpaRepository.findIdsByIdIn(unknownIds);
+            storedIds.forEach(messageId -> processedMessageWindow.add(messageId, now));
+            processedIds.addAll(storedIds);
+        }
+        return processedIds;
+    }
+
+    @Override
+    public void saveAll(Collection<UUID> messageIds, ZonedDateTime processedAt) {
+        processedMessageJpaRepository.saveAll(messageIds.stream()
+                .map(messageId -> ProcessedMessageEntity.builder().id(messageId).processedAt(processedAt).build())
+                .toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(messageIds);
+                }
+            });
+        } else {
+            remember(messageIds);
+        }
+    }
+
+    @Override
+    public int deleteProcessedBefore(ZonedDateTime processedBefore) {
+        return processedMessageJpaRepository.deleteByProcessedAtBefore(processedBefore);
+    }
+
+    private void remember(Collection<UUID> messageIds) {
+        final long now = System.currentTimeMillis();
+        long rejected = messageIds.stream().filter(messageId -> !processedMessageWindow.add(messageId, now)).count();
+        if (rejected > 0) {
+            log.debug("Processed message window is full, {} ids will be checked against the database", rejected);
+            windowRejections.increment(rejected);
+        }
+    }
+}
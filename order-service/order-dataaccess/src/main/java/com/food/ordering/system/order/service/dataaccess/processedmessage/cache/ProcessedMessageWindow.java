@@ -0,0 +1,68 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.cache;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class ProcessedMessageWindow {
+
+    private final long bucketDurationMs;
+    private final int maximumSizePerBucket;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public ProcessedMessageWindow(long bucketDurationMs, int buckets, int maximumSizePerBucket) {
+        this.bucketDurationMs = bucketDurationMs;
+        this.maximumSizePerBucket = maximumSizePerBucket;
+        this.buckets = new AtomicReferenceArray<>(buckets);
+    }
+
+    public boolean contains(UUID messageId, long nowMs) {
+        final long oldestEpoch = nowMs / this.bucketDurationMs - this.buckets.length() + 1;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            final var bucket = this.buckets.get(i);
+            if (bucket != null && bucket.epoch >= oldestEpoch && bucket.messageIds.contains(messageId))
+                return true;
+        }
+        return false;
+    }
+
+    public boolean add(UUID messageId, long nowMs) {
+        final var bucket = this.currentBucket(nowMs / this.bucketDurationMs);
+        if (bucket.messageIds.size() >= this.maximumSizePerBucket)
+            return false;
+        bucket.messageIds.add(messageId);
+        return true;
+    }
+
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            final var bucket = this.buckets.get(i);
+            if (bucket != null)
+                size += bucket.messageIds.size();
+        }
+        return size;
+    }
+
+    private Bucket currentBucket(long epoch) {
+        final int slot = (int) Math.floorMod(epoch, (long) this.buckets.length());
+        while (true) {
+            final var bucket = this.buckets.get(slot);
+            if (bucket != null && bucket.epoch >= epoch)
+                return bucket;
+            final var fresh = new Bucket(epoch);
+            if (this.buckets.compareAndSet(slot, bucket, fresh))
+                return fresh;
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final Set<UUID> messageIds = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.processedmessage.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "processed-message-cache-config")
+public class ProcessedMessageCacheConfigData {
+    private Boolean enabled;
+    private Long bucketDurationMs;
+    private Integer buckets;
+    private Integer maximumSizePerBucket;
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.valueobject.RestaurantId;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "restaurant-cache-config", name = "enabled", havingValue = "true")
+public class CachedRestaurantRepositoryImpl implements RestaurantRepository {
+
+    private static final String CACHE_NAME = "restaurant-catalog";
+
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+    private final LoadingCache<RestaurantId, Restaurant> restaurantCatalogs;
+
+    public CachedRestaurantRepositoryImpl(RestaurantJpaRepository restaurantJpaRepository,
+                                          RestaurantDataAccessMapper restaurantDataAccessMapper,
+                                          RestaurantCacheConfigData restaurantCacheConfigData,
+                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+        this.restaurantCatalogs = Caffeine.newBuilder()
+                .maximumSize(restaurantCacheConfigData.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(restaurantCacheConfigData.getExpireAfterWriteMs()))
+                .refreshAfterWrite(Duration.ofMillis(restaurantCacheConfigData.getRefreshAfterWriteMs()))
+                .recordStats()
+                .build(this::loadRestaurantCatalog);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, this.restaurantCatalogs, CACHE_NAME));
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        return Optional.ofNullable(restaurantCatalogs.get(restaurant.getId()))
+                .map(catalog -> restaurantDataAccessMapper.restaurantCatalogToRestaurant(catalog, restaurant));
+    }
+
+    private Restaurant loadRestaurantCatalog(RestaurantId restaurantId) {
+        List<RestaurantEntity> restaurantEntities = restaurantJpaRepository.findByRestaurantId(restaurantId.getValue());
+        if (restaurantEntities.isEmpty()) {
+            log.warn("No catalog found for restaurant id: {}", restaurantId.getValue());
+            return null;
+        }
+        log.debug("Loaded catalog with {} products for restaurant id: {}", restaurantEntities.size(),
+                restaurantId.getValue());
+        return restaurantDataAccessMapper.restaurantEntityToRestaurant(restaurantEntities);
+    }
+}
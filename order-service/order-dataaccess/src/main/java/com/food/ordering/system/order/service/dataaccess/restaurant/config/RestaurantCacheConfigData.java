@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "restaurant-cache-config")
+public class RestaurantCacheConfigData {
+    private Boolean enabled;
+    private Long maximumSize;
+    private Long expireAfterWriteMs;
+    private Long refreshAfterWriteMs;
+}
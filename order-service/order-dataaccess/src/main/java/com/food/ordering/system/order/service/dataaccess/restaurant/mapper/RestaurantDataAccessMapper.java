@@ -10,6 +10,7 @@ import com.food.ordering.system.order.service.domain.valueobject.RestaurantId;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -37,4 +38,17 @@ public class RestaurantDataAccessMapper {
                 .active(restaurantEntity.getRestaurantActive())
                 .build();
     }
+
+    public Restaurant restaurantCatalogToRestaurant(Restaurant catalog, Restaurant restaurant) {
+        List<Product> restaurantProducts = restaurant.getProducts().stream()
+                .map(product -> catalog.findProduct(product.getId()))
+                .flatMap(Optional::stream)
+                .toList();
+
+        return Restaurant.Builder.builder()
+                .restaurantId(catalog.getId())
+                .products(restaurantProducts)
+                .active(catalog.getActive())
+                .build();
+    }
 }
@@ -1,15 +1,24 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.RebuildOrderTrackingResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @Validated
@@ -18,14 +27,58 @@ public class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
     private final OrderTrackCommandHandler orderTrackCommandHandler;
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+    private final OrderTrackingRebuildCommandHandler orderTrackingRebuildCommandHandler;
+    private final OrderRequestExecutor orderRequestExecutor;
 
     @Override
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
         return this.orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrderResponse createOrder(String idempotencyKey, CreateOrderCommand createOrderCommand) {
+        if (idempotencyKey == null || idempotencyKey.isBlank())
+            return this.orderCreateCommandHandler.createOrder(createOrderCommand);
+        return this.orderIdempotencyHelper.createOrder(idempotencyKey, createOrderCommand,
+                () -> this.orderCreateCommandHandler.createOrder(createOrderCommand));
+    }
+
+    @Override
+    public CompletableFuture<CreateOrderResponse> createOrderAsync(String idempotencyKey, CreateOrderCommand createOrderCommand) {
+        if (idempotencyKey == null || idempotencyKey.isBlank())
+            return this.orderCreateCommandHandler.createOrderAsync(createOrderCommand);
+        return this.orderIdempotencyHelper.createOrderAsync(idempotencyKey, createOrderCommand,
+                () -> this.orderCreateCommandHandler.createOrderAsync(createOrderCommand));
+    }
+
+    @Override
+    public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+        return this.orderCreateCommandHandler.createOrders(createOrderBatchCommand);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return this.orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public CompletableFuture<TrackOrderResponse> trackOrderAsync(TrackOrderQuery trackOrderQuery) {
+        return this.orderRequestExecutor.supplyAsync(() -> this.orderTrackCommandHandler.trackOrder(trackOrderQuery));
+    }
+
+    @Override
+    public TrackOrdersResponse trackOrders(TrackOrdersQuery trackOrdersQuery) {
+        return this.orderTrackCommandHandler.trackOrders(trackOrdersQuery);
+    }
+
+    @Override
+    public Optional<TrackOrderVersion> findTrackOrderVersion(TrackOrderQuery trackOrderQuery) {
+        return this.orderTrackCommandHandler.findTrackOrderVersion(trackOrderQuery);
+    }
+
+    @Override
+    public RebuildOrderTrackingResponse rebuildOrderTracking() {
+        return this.orderTrackingRebuildCommandHandler.rebuildOrderTracking();
+    }
 }
@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.inbox.scheduler.ProcessedMessageHelper;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.valueobject.OrderApprovalStatus;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderApprovalSaga {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderTrackingHelper orderTrackingHelper;
+    private final OrderMetrics orderMetrics;
+    private final ProcessedMessageHelper processedMessageHelper;
+    private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+
+    @Transactional
+    public void process(final List<RestaurantApprovalResponse> messages) {
+        final var restaurantApprovalResponses = this.processedMessageHelper.filterUnprocessed(messages, RestaurantApprovalResponse::getId);
+        if (restaurantApprovalResponses.isEmpty())
+            return;
+
+        final var orders = this.orderSagaHelper.findOrders("approval", restaurantApprovalResponses.stream()
+                .map(RestaurantApprovalResponse::getOrderId).toList());
+        final var updatedOrders = new LinkedHashSet<Order>();
+        final var orderCancelledEvents = new ArrayList<OrderCancelledEvent>();
+
+        for (final var restaurantApprovalResponse : restaurantApprovalResponses) {
+            final var order = orders.get(restaurantApprovalResponse.getOrderId());
+            if (order == null) {
+                log.warn("Could not find order with id: {} for restaurant approval id: {}",
+                        restaurantApprovalResponse.getOrderId(), restaurantApprovalResponse.getId());
+                continue;
+            }
+            try {
+                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                    log.info("Approving order id: {}", restaurantApprovalResponse.getOrderId());
+                    this.orderDomainService.approvedOrder(order);
+                } else {
+                    log.info("Cancelling payment for rejected order id: {}, with failure messages: {}",
+                            restaurantApprovalResponse.getOrderId(), restaurantApprovalResponse.getFailureMessages());
+                    orderCancelledEvents.add(this.orderDomainService.cancelOrderPaymente(order,
+                            restaurantApprovalResponse.getFailureMessages()));
+                }
+                updatedOrders.add(order);
+            } catch (OrderDomainException e) {
+                log.warn("Ignoring restaurant approval response for order id: {} in status {}: {}",
+                        restaurantApprovalResponse.getOrderId(), order.getOrderStatus(), e.getMessage());
+                this.orderMetrics.recordDomainException("approval", e);
+            }
+        }
+
+        this.orderSagaHelper.updateOrders(updatedOrders);
+        this.orderTrackingHelper.ordersUpdated(updatedOrders)
+                .forEach(orderTrackingView -> this.orderMetrics.recordSagaLatency("approval", orderTrackingView));
+        this.processedMessageHelper.markProcessed(restaurantApprovalResponses, RestaurantApprovalResponse::getId);
+        if (!orderCancelledEvents.isEmpty())
+            this.paymentOutboxHelper.saveAll(orderCancelledEvents.stream()
+                    .map(this.orderDataMapper::orderCancelledEventToOrderPaymentOutboxMessage)
+                    .toList());
+        log.info("{} restaurant approval responses processed, {} orders updated, {} payment cancellations queued",
+                restaurantApprovalResponses.size(), updatedOrders.size(), orderCancelledEvents.size());
+    }
+}
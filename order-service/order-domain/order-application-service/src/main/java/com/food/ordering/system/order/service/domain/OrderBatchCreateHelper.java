@@ -0,0 +1,140 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.valueobject.ProductId;
+import com.food.ordering.system.order.service.domain.valueobject.RestaurantId;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.validation.Validator;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderBatchCreateHelper {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderTrackingHelper orderTrackingHelper;
+    private final Validator validator;
+    private final OrderMetrics orderMetrics;
+
+    @Transactional
+    public List<CreateOrderBatchItemResponse> persistOrders(final List<CreateOrderCommand> commands) {
+        final var responses = new CreateOrderBatchItemResponse[commands.size()];
+        final var validIndexes = new ArrayList<Integer>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            final var violations = this.validateCommand(commands.get(i));
+            if (violations.isEmpty())
+                validIndexes.add(i);
+            else
+                responses[i] = this.orderDataMapper.createOrderBatchFailure(i, String.join(", ", violations));
+        }
+
+        final var validCommands = validIndexes.stream().map(commands::get).toList();
+        final var existingCustomers = this.findExistingCustomers(validCommands);
+        final var restaurants = this.findRestaurants(validCommands);
+
+        final var orders = new ArrayList<Order>(validIndexes.size());
+        final var orderCreatedEvents = new ArrayList<OrderCreatedEvent>(validIndexes.size());
+        for (final var index : validIndexes) {
+            final var command = commands.get(index);
+            try {
+                final var orderCreatedEvent = this.initiateOrder(command, existingCustomers, restaurants);
+                orders.add(orderCreatedEvent.getOrder());
+                orderCreatedEvents.add(orderCreatedEvent);
+                responses[index] = this.orderDataMapper.orderToCreateOrderBatchItemResponse(index,
+                        orderCreatedEvent.getOrder(), "Order Created Successfully!");
+            } catch (OrderDomainException e) {
+                log.warn("Order at batch index {} rejected: {}", index, e.getMessage());
+                this.orderMetrics.recordDomainException("create_batch", e);
+                responses[index] = this.orderDataMapper.createOrderBatchFailure(index, e.getMessage());
+            }
+        }
+
+        if (!orders.isEmpty())
+            this.saveOrders(orders, orderCreatedEvents);
+        log.info("{} of {} orders created in batch", orders.size(), commands.size());
+        return Arrays.asList(responses);
+    }
+
+    @Transactional
+    public void persistCreatedOrders(final List<OrderCreatedEvent> orderCreatedEvents) {
+        this.saveOrders(orderCreatedEvents.stream().map(OrderCreatedEvent::getOrder).toList(), orderCreatedEvents);
+    }
+
+    private void saveOrders(List<Order> orders, List<OrderCreatedEvent> orderCreatedEvents) {
+        this.orderRepository.createAll(orders);
+        this.orderTrackingHelper.ordersCreated(orderCreatedEvents);
+        this.paymentOutboxHelper.saveAll(orderCreatedEvents.stream()
+                .map(this.orderDataMapper::orderCreatedEventToOrderPaymentOutboxMessage)
+                .toList());
+    }
+
+    private List<String> validateCommand(CreateOrderCommand command) {
+        if (Objects.isNull(command))
+            return List.of("order must not be null");
+        return this.validator.validate(command).stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private OrderCreatedEvent initiateOrder(CreateOrderCommand command,
+                                           Set<UUID> existingCustomers,
+                                           Map<UUID, Optional<Restaurant>> restaurants) {
+        if (!existingCustomers.contains(command.getCustomerId()))
+            throw new OrderDomainException("Could not find customer with customer id: " + command.getCustomerId());
+
+        final var restaurant = restaurants.get(command.getRestaurantId());
+        if (restaurant.isEmpty())
+            throw new OrderDomainException("Could not find restaurant with restaurant id: " + command.getRestaurantId());
+
+        final var order = this.orderDataMapper.createOrderCommandToOrder(command);
+        return this.orderDomainService.validateAndInitiateOrder(order, restaurant.get());
+    }
+
+    private Set<UUID> findExistingCustomers(List<CreateOrderCommand> commands) {
+        return commands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .distinct()
+                .filter(customerId -> this.customerRepository.findCustomer(customerId).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    private Map<UUID, Optional<Restaurant>> findRestaurants(List<CreateOrderCommand> commands) {
+        final var productIdsByRestaurant = new LinkedHashMap<UUID, Set<UUID>>();
+        commands.forEach(command -> {
+            final var productIds = productIdsByRestaurant.computeIfAbsent(command.getRestaurantId(), id -> new LinkedHashSet<>());
+            command.getItems().forEach(orderItem -> productIds.add(orderItem.getProductId()));
+        });
+
+        final var restaurants = new HashMap<UUID, Optional<Restaurant>>();
+        productIdsByRestaurant.forEach((restaurantId, productIds) -> restaurants.put(restaurantId,
+                this.restaurantRepository.findRestaurantInformation(Restaurant.Builder.builder()
+                        .restaurantId(new RestaurantId(restaurantId))
+                        .products(productIds.stream().map(productId -> new Product(new ProductId(productId))).toList())
+                        .build())));
+        return restaurants;
+    }
+}
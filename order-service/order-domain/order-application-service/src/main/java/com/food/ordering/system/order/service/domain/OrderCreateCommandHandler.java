@@ -1,28 +1,86 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class OrderCreateCommandHandler {
 
     private final OrderCreateHelper orderCreateHelper;
+    private final OrderBatchCreateHelper orderBatchCreateHelper;
+    private final OrderGroupCommitPipeline orderGroupCommitPipeline;
     private final OrderDataMapper orderDataMapper;
-    private final OrderCreatedPaymentRequestMessagePublisher publisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderMetrics orderMetrics;
+    private final OrderRequestExecutor orderRequestExecutor;
 
     public CreateOrderResponse createOrder(final CreateOrderCommand command) {
-        final var orderCreatedEvent = this.orderCreateHelper.persistOrder(command);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-        this.publisher.publish(orderCreatedEvent);
-        return this.orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order Created Successfully!");
+        final var start = System.nanoTime();
+        try {
+            final var restaurant = this.orderCreateHelper.checkCustomerAndRestaurant(command);
+            final var orderCreatedEvent = this.orderGroupCommitPipeline.isEnabled()
+                    ? this.orderGroupCommitPipeline.persist(this.orderCreateHelper.initiateOrder(command, restaurant))
+                    : this.orderCreateHelper.persistOrder(command, restaurant);
+            log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+            this.orderMetrics.recordCreate(start, "created");
+            return this.orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order Created Successfully!");
+        } catch (OrderDomainException e) {
+            this.orderMetrics.recordDomainException("create", e);
+            this.orderMetrics.recordCreate(start, "rejected");
+            throw e;
+        }
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrderAsync(final CreateOrderCommand command) {
+        final var start = System.nanoTime();
+        return this.orderRequestExecutor.supplyAsync(() -> {
+                    final var restaurant = this.orderCreateHelper.checkCustomerAndRestaurant(command);
+                    return this.orderGroupCommitPipeline.isEnabled()
+                            ? this.orderGroupCommitPipeline.persistAsync(this.orderCreateHelper.initiateOrder(command, restaurant))
+                            : CompletableFuture.completedFuture(this.orderCreateHelper.persistOrder(command, restaurant));
+                })
+                .thenCompose(Function.identity())
+                .whenComplete((orderCreatedEvent, failure) -> {
+                    if (failure == null) {
+                        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+                        this.orderMetrics.recordCreate(start, "created");
+                    } else if (failure.getCause() instanceof OrderDomainException e) {
+                        this.orderMetrics.recordDomainException("create", e);
+                        this.orderMetrics.recordCreate(start, "rejected");
+                    }
+                })
+                .thenApply(orderCreatedEvent -> this.orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
+                        "Order Created Successfully!"));
     }
 
+    public CreateOrderBatchResponse createOrders(final CreateOrderBatchCommand command) {
+        final var maxSize = this.orderServiceConfigData.getBatchCreateMaxSize();
+        if (command.getOrders().size() > maxSize) {
+            log.warn("Order batch of size {} exceeds the maximum of {}", command.getOrders().size(), maxSize);
+            throw new OrderDomainException("Order batch must not contain more than " + maxSize + " orders!");
+        }
+        final var responses = this.orderBatchCreateHelper.persistOrders(command.getOrders());
+        final var createdCount = (int) responses.stream().filter(CreateOrderBatchItemResponse::getCreated).count();
+        return CreateOrderBatchResponse.builder()
+                .createdCount(createdCount)
+                .failedCount(responses.size() - createdCount)
+                .orders(responses)
+                .build();
+    }
 
 }
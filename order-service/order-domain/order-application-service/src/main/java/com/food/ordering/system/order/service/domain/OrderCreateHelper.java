@@ -1,11 +1,14 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
@@ -14,8 +17,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Component
@@ -27,18 +33,63 @@ public class OrderCreateHelper {
     private final CustomerRepository customerRepository;
     private final RestaurantRepository restaurantRepository;
     private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderTrackingHelper orderTrackingHelper;
+    private final OrderMetrics orderMetrics;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderCreateLookupExecutor orderCreateLookupExecutor;
 
-    @Transactional
-    public OrderCreatedEvent persistOrder(final CreateOrderCommand command) {
-        this.checkCustomer(command.getCustomerId());
-        final var restaurant = this.checkRestaurant(command);
+    public Restaurant checkCustomerAndRestaurant(final CreateOrderCommand command) {
+        return this.orderMetrics.recordCreateStage("lookups", () -> {
+            if (!this.orderServiceConfigData.getCreateLookupParallel()) {
+                this.orderMetrics.recordCreateStage("customer_check", () -> this.checkCustomer(command.getCustomerId()));
+                return this.orderMetrics.recordCreateStage("restaurant_check", () -> this.checkRestaurant(command));
+            }
+
+            final var customerCheck = this.orderCreateLookupExecutor.runAsync(() -> this.orderMetrics
+                    .recordCreateStage("customer_check", () -> this.checkCustomer(command.getCustomerId())));
+            Restaurant restaurant = null;
+            RuntimeException restaurantFailure = null;
+            try {
+                restaurant = this.orderMetrics.recordCreateStage("restaurant_check", () -> this.checkRestaurant(command));
+            } catch (RuntimeException e) {
+                restaurantFailure = e;
+            }
+            this.awaitLookup(customerCheck);
+            if (restaurantFailure != null)
+                throw restaurantFailure;
+            return restaurant;
+        });
+    }
+
+    public OrderCreatedEvent initiateOrder(final CreateOrderCommand command, final Restaurant restaurant) {
         final var order = this.orderDataMapper.createOrderCommandToOrder(command);
-        final var orderCreatedEvent = this.orderDomainService.validateAndInitiateOrder(order, restaurant);
-        final var orderResult = this.saveOrder(order);
+        return this.orderMetrics.recordCreateStage("validation",
+                () -> this.orderDomainService.validateAndInitiateOrder(order, restaurant));
+    }
+
+    @Transactional
+    public OrderCreatedEvent persistOrder(final CreateOrderCommand command, final Restaurant restaurant) {
+        final var orderCreatedEvent = this.initiateOrder(command, restaurant);
+        final var orderResult = this.orderMetrics.recordCreateStage("save", () -> this.saveOrder(orderCreatedEvent.getOrder()));
+        this.orderMetrics.recordCreateStage("tracking", () -> this.orderTrackingHelper.ordersCreated(List.of(orderCreatedEvent)));
+        this.orderMetrics.recordCreateStage("outbox", () -> this.paymentOutboxHelper
+                .save(this.orderDataMapper.orderCreatedEventToOrderPaymentOutboxMessage(orderCreatedEvent)));
+        this.orderMetrics.recordCreateCommit("commit");
         log.info("Order is created with id: {}", orderResult.getId().getValue());
         return orderCreatedEvent;
     }
 
+    private void awaitLookup(CompletableFuture<Void> lookup) {
+        try {
+            lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new OrderDomainException("Order lookup failed!", e.getCause());
+        }
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand command) {
         final var restaurant = this.orderDataMapper.createOrderCommandToRestaurant(command);
         final var restaurantOptional = this.restaurantRepository.findRestaurantInformation(restaurant);
@@ -58,7 +109,7 @@ public class OrderCreateHelper {
     }
 
     private Order saveOrder(Order order) {
-        final var orderResult = this.orderRepository.save(order);
+        final var orderResult = this.orderRepository.create(order);
         if (Objects.isNull(orderResult)) {
             log.error("Could not save order!");
             throw new OrderDomainException("Could not save order!");
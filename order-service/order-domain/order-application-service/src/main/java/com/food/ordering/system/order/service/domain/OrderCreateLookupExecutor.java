@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class OrderCreateLookupExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "order-create-lookup-";
+
+    private final ThreadPoolExecutor pool;
+    private final Executor executor;
+
+    public OrderCreateLookupExecutor(OrderServiceConfigData orderServiceConfigData) {
+        final var virtualThreads = Boolean.TRUE.equals(orderServiceConfigData.getVirtualThreadsEnabled()) ?
+                VirtualThreads.threadFactory(THREAD_NAME_PREFIX).orElse(null) : null;
+        if (virtualThreads != null) {
+            log.info("Order create lookups will run on virtual threads");
+            this.pool = null;
+            this.executor = VirtualThreads.threadPerTaskExecutor(virtualThreads);
+            return;
+        }
+
+        final var threads = orderServiceConfigData.getCreateLookupThreads();
+        final var threadCounter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderServiceConfigData.getCreateLookupQueueSize()),
+                runnable -> {
+                    final var thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor = this.pool;
+    }
+
+    public CompletableFuture<Void> runAsync(Runnable lookup) {
+        return CompletableFuture.runAsync(lookup, this.executor);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (this.pool != null) {
+            log.info("Shutting down order create lookup executor!");
+            this.pool.shutdown();
+        }
+    }
+}
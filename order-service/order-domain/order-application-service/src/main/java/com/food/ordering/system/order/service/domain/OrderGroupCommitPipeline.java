@@ -0,0 +1,154 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class OrderGroupCommitPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000L;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderBatchCreateHelper orderBatchCreateHelper;
+    private final OrderMetrics orderMetrics;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final ExecutorService writers;
+    private volatile boolean running;
+
+    public OrderGroupCommitPipeline(OrderServiceConfigData orderServiceConfigData,
+                                    OrderBatchCreateHelper orderBatchCreateHelper,
+                                    OrderMetrics orderMetrics) {
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderBatchCreateHelper = orderBatchCreateHelper;
+        this.orderMetrics = orderMetrics;
+        this.pendingOrders = new ArrayBlockingQueue<>(orderServiceConfigData.getGroupCommitQueueCapacity());
+        this.running = orderServiceConfigData.getGroupCommitEnabled();
+        if (!this.running) {
+            this.writers = null;
+            return;
+        }
+
+        final var writerCount = orderServiceConfigData.getGroupCommitWriters();
+        final var threadCounter = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerCount,
+                runnable -> new Thread(runnable, "order-group-commit-" + threadCounter.incrementAndGet()));
+        for (int i = 0; i < writerCount; i++)
+            this.writers.execute(this::writeLoop);
+        log.info("Order group commit enabled with {} writers, batches of up to {} orders within {} ms", writerCount,
+                orderServiceConfigData.getGroupCommitMaxBatchSize(), orderServiceConfigData.getGroupCommitMaxWaitMs());
+    }
+
+    public boolean isEnabled() {
+        return this.running;
+    }
+
+    public CompletableFuture<OrderCreatedEvent> persistAsync(final OrderCreatedEvent orderCreatedEvent) {
+        final var pendingOrder = new PendingOrder(orderCreatedEvent);
+        if (!this.running || !this.pendingOrders.offer(pendingOrder)) {
+            this.orderMetrics.recordGroupCommitFallback("queue_full");
+            this.orderBatchCreateHelper.persistCreatedOrders(List.of(orderCreatedEvent));
+            return CompletableFuture.completedFuture(orderCreatedEvent);
+        }
+
+        final var start = System.nanoTime();
+        return pendingOrder.committed.whenComplete((committedEvent, failure) ->
+                this.orderMetrics.recordCreateStage("group_commit", start));
+    }
+
+    public OrderCreatedEvent persist(final OrderCreatedEvent orderCreatedEvent) {
+        try {
+            return this.persistAsync(orderCreatedEvent).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new OrderDomainException("Could not save order!", e.getCause());
+        }
+    }
+
+    private void writeLoop() {
+        final var maxBatchSize = this.orderServiceConfigData.getGroupCommitMaxBatchSize();
+        final var maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(this.orderServiceConfigData.getGroupCommitMaxWaitMs());
+        try {
+            while (this.running || !this.pendingOrders.isEmpty()) {
+                final var first = this.pendingOrders.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+
+                final var batch = new ArrayList<PendingOrder>(maxBatchSize);
+                batch.add(first);
+                final var deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (this.pendingOrders.drainTo(batch, maxBatchSize - batch.size()) > 0)
+                        continue;
+                    final var remaining = deadline - System.nanoTime();
+                    final var next = remaining > 0 ? this.pendingOrders.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+                this.write(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Order group commit writer interrupted!");
+        }
+    }
+
+    private void write(List<PendingOrder> batch) {
+        final var start = System.nanoTime();
+        try {
+            this.orderBatchCreateHelper.persistCreatedOrders(batch.stream()
+                    .map(pendingOrder -> pendingOrder.orderCreatedEvent)
+                    .toList());
+            this.orderMetrics.recordGroupCommit(batch.size(), start, "committed");
+            batch.forEach(pendingOrder -> pendingOrder.committed.complete(pendingOrder.orderCreatedEvent));
+        } catch (RuntimeException e) {
+            this.orderMetrics.recordGroupCommit(batch.size(), start, "failed");
+            if (batch.size() == 1) {
+                log.error("Could not save order with id: {}", batch.get(0).orderCreatedEvent.getOrder().getId().getValue(), e);
+                batch.get(0).committed.completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} orders failed, saving them one by one: {}", batch.size(), e.getMessage());
+            this.orderMetrics.recordGroupCommitFallback("batch_failed");
+            batch.forEach(pendingOrder -> this.write(List.of(pendingOrder)));
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (this.writers == null)
+            return;
+        this.running = false;
+        this.writers.shutdown();
+        if (!this.writers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+            log.warn("Order group commit writers did not drain {} pending orders in time!", this.pendingOrders.size());
+    }
+
+    private static class PendingOrder {
+
+        private final OrderCreatedEvent orderCreatedEvent;
+        private final CompletableFuture<OrderCreatedEvent> committed = new CompletableFuture<>();
+
+        PendingOrder(OrderCreatedEvent orderCreatedEvent) {
+            this.orderCreatedEvent = orderCreatedEvent;
+        }
+    }
+}
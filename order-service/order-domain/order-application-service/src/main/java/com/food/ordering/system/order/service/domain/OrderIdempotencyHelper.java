@@ -0,0 +1,175 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderRequestConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderIdempotencyHelper {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Cache<String, IdempotentOrderRequest> orderRequests;
+    private final Counter replayedRequests;
+
+    public OrderIdempotencyHelper(OrderServiceConfigData orderServiceConfigData,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderRequests = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getIdempotencyCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(orderServiceConfigData.getIdempotencyCacheExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(registry, this.orderRequests, "order-idempotency");
+        this.replayedRequests = registry.counter("order.idempotency.replays");
+    }
+
+    public CreateOrderResponse createOrder(final String idempotencyKey,
+                                           final CreateOrderCommand command,
+                                           final Supplier<CreateOrderResponse> orderCreator) {
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)
+            throw new OrderDomainException("Idempotency-Key must not be longer than " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters!");
+
+        final var cacheKey = command.getCustomerId() + ":" + idempotencyKey;
+        final var request = new IdempotentOrderRequest(this.fingerprint(command));
+        final var existingRequest = this.orderRequests.asMap().putIfAbsent(cacheKey, request);
+        if (existingRequest != null)
+            return this.replay(idempotencyKey, request, existingRequest);
+
+        try {
+            final var response = orderCreator.get();
+            request.response.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            this.orderRequests.asMap().remove(cacheKey, request);
+            request.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrderAsync(final String idempotencyKey,
+                                                                   final CreateOrderCommand command,
+                                                                   final Supplier<CompletableFuture<CreateOrderResponse>> orderCreator) {
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)
+            throw new OrderDomainException("Idempotency-Key must not be longer than " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters!");
+
+        final var cacheKey = command.getCustomerId() + ":" + idempotencyKey;
+        final var request = new IdempotentOrderRequest(this.fingerprint(command));
+        final var existingRequest = this.orderRequests.asMap().putIfAbsent(cacheKey, request);
+        if (existingRequest != null)
+            return this.replayAsync(idempotencyKey, request, existingRequest);
+
+        final CompletableFuture<CreateOrderResponse> response;
+        try {
+            response = orderCreator.get();
+        } catch (RuntimeException e) {
+            this.orderRequests.asMap().remove(cacheKey, request);
+            request.response.completeExceptionally(e);
+            throw e;
+        }
+        return response.whenComplete((createOrderResponse, failure) -> {
+            if (failure == null) {
+                request.response.complete(createOrderResponse);
+                return;
+            }
+            this.orderRequests.asMap().remove(cacheKey, request);
+            request.response.completeExceptionally(unwrap(failure));
+        });
+    }
+
+    private CompletableFuture<CreateOrderResponse> replayAsync(String idempotencyKey,
+                                                               IdempotentOrderRequest request,
+                                                               IdempotentOrderRequest existingRequest) {
+        if (!existingRequest.fingerprint.equals(request.fingerprint))
+            throw new OrderRequestConflictException("Idempotency-Key " + idempotencyKey +
+                    " was already used for a different order request!");
+
+        this.replayedRequests.increment();
+        log.debug("Replaying order response for Idempotency-Key: {}", idempotencyKey);
+        return existingRequest.response.copy()
+                .orTimeout(this.orderServiceConfigData.getIdempotencyWaitTimeoutMs(), TimeUnit.MILLISECONDS)
+                .handle((createOrderResponse, failure) -> {
+                    if (failure == null)
+                        return createOrderResponse;
+                    final var cause = unwrap(failure);
+                    if (cause instanceof TimeoutException)
+                        throw new OrderRequestConflictException("Order request with Idempotency-Key " + idempotencyKey +
+                                " is still in progress!", cause);
+                    if (cause instanceof RuntimeException runtimeException)
+                        throw runtimeException;
+                    throw new OrderDomainException("Order request with Idempotency-Key " + idempotencyKey + " failed!", cause);
+                });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private CreateOrderResponse replay(String idempotencyKey,
+                                       IdempotentOrderRequest request,
+                                       IdempotentOrderRequest existingRequest) {
+        if (!existingRequest.fingerprint.equals(request.fingerprint))
+            throw new OrderRequestConflictException("Idempotency-Key " + idempotencyKey +
+                    " was already used for a different order request!");
+
+        this.replayedRequests.increment();
+        log.debug("Replaying order response for Idempotency-Key: {}", idempotencyKey);
+        try {
+            return existingRequest.response.get(this.orderServiceConfigData.getIdempotencyWaitTimeoutMs(),
+                    TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderRequestConflictException("Interrupted while waiting for order request with Idempotency-Key "
+                    + idempotencyKey, e);
+        } catch (TimeoutException e) {
+            throw new OrderRequestConflictException("Order request with Idempotency-Key " + idempotencyKey +
+                    " is still in progress!", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new OrderDomainException("Order request with Idempotency-Key " + idempotencyKey + " failed!", e.getCause());
+        }
+    }
+
+    private String fingerprint(CreateOrderCommand command) {
+        final var address = command.getAddress();
+        return command.getRestaurantId() + "|" + command.getPrice() + "|" +
+                (address == null ? "" : address.getStreet() + "," + address.getPostalCode() + "," + address.getCity()) + "|" +
+                (command.getItems() == null ? "" : command.getItems().stream()
+                        .map(item -> item.getProductId() + ":" + item.getQuantity() + ":" + item.getPrice() + ":" + item.getSubTotal())
+                        .collect(Collectors.joining(",")));
+    }
+
+    private static final class IdempotentOrderRequest {
+        private final String fingerprint;
+        private final CompletableFuture<CreateOrderResponse> response = new CompletableFuture<>();
+
+        private IdempotentOrderRequest(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
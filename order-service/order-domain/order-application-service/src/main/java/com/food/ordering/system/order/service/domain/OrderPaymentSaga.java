@@ -0,0 +1,79 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.inbox.scheduler.ProcessedMessageHelper;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.valueobject.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderPaymentSaga {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderTrackingHelper orderTrackingHelper;
+    private final OrderMetrics orderMetrics;
+    private final ProcessedMessageHelper processedMessageHelper;
+    private final OrderDataMapper orderDataMapper;
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+
+    @Transactional
+    public void process(final List<PaymentResponse> messages) {
+        final var paymentResponses = this.processedMessageHelper.filterUnprocessed(messages, PaymentResponse::getId);
+        if (paymentResponses.isEmpty())
+            return;
+
+        final var orders = this.orderSagaHelper.findOrders("payment", paymentResponses.stream().map(PaymentResponse::getOrderId).toList());
+        final var updatedOrders = new LinkedHashSet<Order>();
+        final var orderPaidEvents = new ArrayList<OrderPaidEvent>();
+
+        for (final var paymentResponse : paymentResponses) {
+            final var order = orders.get(paymentResponse.getOrderId());
+            if (order == null) {
+                log.warn("Could not find order with id: {} for payment id: {}", paymentResponse.getOrderId(),
+                        paymentResponse.getPaymentId());
+                continue;
+            }
+            try {
+                if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()) {
+                    log.info("Completing payment for order id: {}", paymentResponse.getOrderId());
+                    orderPaidEvents.add(this.orderDomainService.payOrder(order));
+                } else {
+                    log.info("Cancelling order id: {} after payment {}", paymentResponse.getOrderId(),
+                            paymentResponse.getPaymentStatus());
+                    this.orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+                }
+                updatedOrders.add(order);
+            } catch (OrderDomainException e) {
+                log.warn("Ignoring payment response for order id: {} in status {}: {}", paymentResponse.getOrderId(),
+                        order.getOrderStatus(), e.getMessage());
+                this.orderMetrics.recordDomainException("payment", e);
+            }
+        }
+
+        this.orderSagaHelper.updateOrders(updatedOrders);
+        this.orderTrackingHelper.ordersUpdated(updatedOrders)
+                .forEach(orderTrackingView -> this.orderMetrics.recordSagaLatency("payment", orderTrackingView));
+        this.processedMessageHelper.markProcessed(paymentResponses, PaymentResponse::getId);
+        if (!orderPaidEvents.isEmpty())
+            this.approvalOutboxHelper.saveAll(orderPaidEvents.stream()
+                    .map(this.orderDataMapper::orderPaidEventToOrderApprovalOutboxMessage)
+                    .toList());
+        log.info("{} payment responses processed, {} orders updated, {} approval requests queued",
+                paymentResponses.size(), updatedOrders.size(), orderPaidEvents.size());
+    }
+}
@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OrderRequestExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "order-request-";
+
+    private final ThreadPoolExecutor pool;
+    private final Executor executor;
+
+    public OrderRequestExecutor(OrderServiceConfigData orderServiceConfigData) {
+        final var virtualThreads = Boolean.TRUE.equals(orderServiceConfigData.getVirtualThreadsEnabled()) ?
+                VirtualThreads.threadFactory(THREAD_NAME_PREFIX).orElse(null) : null;
+        if (virtualThreads != null) {
+            log.info("Order requests will run on virtual threads");
+            this.pool = null;
+            this.executor = VirtualThreads.threadPerTaskExecutor(virtualThreads);
+            return;
+        }
+
+        final var threads = orderServiceConfigData.getRequestExecutorThreads();
+        final var threadCounter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderServiceConfigData.getRequestExecutorQueueSize()),
+                runnable -> {
+                    final var thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor = this.pool;
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, this.executor);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (this.pool != null) {
+            log.info("Shutting down order request executor!");
+            this.pool.shutdown();
+        }
+    }
+}
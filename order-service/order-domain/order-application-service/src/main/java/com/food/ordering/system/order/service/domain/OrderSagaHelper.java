@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderSagaHelper {
+
+    private final OrderRepository orderRepository;
+    private final OrderMetrics orderMetrics;
+
+    public Map<String, Order> findOrders(String saga, Collection<String> orderIds) {
+        final var ids = new HashMap<String, UUID>();
+        for (String orderId : orderIds) {
+            if (ids.containsKey(orderId))
+                continue;
+            try {
+                ids.put(orderId, UUID.fromString(orderId));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.error("Skipping {} response with invalid order id: {}", saga, orderId);
+                this.orderMetrics.recordInvalidOrderId(saga);
+            }
+        }
+        final var uniqueIds = new HashSet<>(ids.values());
+        if (uniqueIds.isEmpty())
+            return Map.of();
+        final var orders = this.orderRepository.findByIds(uniqueIds.stream().map(OrderId::new).toList()).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+        if (orders.size() < uniqueIds.size())
+            log.warn("{} of {} orders referenced by the batch could not be found", uniqueIds.size() - orders.size(),
+                    uniqueIds.size());
+
+        final var ordersById = new HashMap<String, Order>(ids.size());
+        ids.forEach((orderId, id) -> {
+            final var order = orders.get(id);
+            if (order != null)
+                ordersById.put(orderId, order);
+        });
+        return ordersById;
+    }
+
+    public void updateOrders(Collection<Order> orders) {
+        if (!orders.isEmpty())
+            this.orderRepository.updateStatuses(new ArrayList<>(orders));
+    }
+}
@@ -1,35 +1,109 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class OrderTrackCommandHandler {
 
+    private final OrderServiceConfigData orderServiceConfigData;
     private final OrderDataMapper orderDataMapper;
-    private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final OrderTrackingVersionIndex orderTrackingVersionIndex;
+    private final OrderTrackingLookupCoalescer orderTrackingLookupCoalescer;
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(final TrackOrderQuery trackOrderQuery) {
 
-        final var optionalOrder = this.orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
+        final var trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+        final var optionalOrderTracking = this.orderTrackingLookupCoalescer.find(trackingId,
+                () -> this.orderTrackingRepository.findByTrackingId(trackingId));
+
+        if (optionalOrderTracking.isEmpty())
+            throw this.orderNotFound(trackOrderQuery.getOrderTrackingId());
+
+        return this.toTrackOrderResponse(optionalOrderTracking.get());
+    }
 
-        if (optionalOrder.isEmpty()) {
-            log.warn("Could not find order with tracking id: {}", trackOrderQuery.getOrderTrackingId());
-            throw new OrderNotFoundException("Could not find order with tracking id:" + trackOrderQuery.getOrderTrackingId());
+    @Transactional(readOnly = true)
+    public TrackOrdersResponse trackOrders(final TrackOrdersQuery trackOrdersQuery) {
+        final var trackingIds = this.distinctTrackingIds(trackOrdersQuery);
+        return this.toTrackOrdersResponse(trackingIds, this.orderTrackingRepository.findByTrackingIds(trackingIds.stream()
+                .map(TrackingId::new)
+                .toList()));
+    }
+
+    public Set<UUID> distinctTrackingIds(final TrackOrdersQuery trackOrdersQuery) {
+        final var maxSize = this.orderServiceConfigData.getTrackOrdersMaxSize();
+        final var trackingIds = new LinkedHashSet<>(trackOrdersQuery.getOrderTrackingIds());
+        if (trackingIds.size() > maxSize) {
+            log.warn("Order tracking query of size {} exceeds the maximum of {}", trackingIds.size(), maxSize);
+            throw new OrderDomainException("Order tracking query must not contain more than " + maxSize + " tracking ids!");
         }
+        return trackingIds;
+    }
+
+    public TrackOrderResponse toTrackOrderResponse(final OrderTrackingView orderTrackingView) {
+        this.orderTrackingVersionIndex.put(orderTrackingView);
+        return this.orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView);
+    }
+
+    public TrackOrdersResponse toTrackOrdersResponse(final Set<UUID> trackingIds,
+                                                     final Collection<OrderTrackingView> orderTrackingViews) {
+        final var orderTrackingViewsById = orderTrackingViews.stream()
+                .collect(Collectors.toMap(view -> view.getTrackingId().getValue(), Function.identity()));
+
+        final var orders = new LinkedHashMap<UUID, TrackOrderResponse>();
+        final var notFoundTrackingIds = new ArrayList<UUID>();
+        trackingIds.forEach(trackingId -> {
+            final var orderTrackingView = orderTrackingViewsById.get(trackingId);
+            if (orderTrackingView == null) {
+                notFoundTrackingIds.add(trackingId);
+                return;
+            }
+            orders.put(trackingId, this.toTrackOrderResponse(orderTrackingView));
+        });
+
+        if (!notFoundTrackingIds.isEmpty())
+            log.debug("{} of {} tracking ids not found", notFoundTrackingIds.size(), trackingIds.size());
+        return TrackOrdersResponse.builder()
+                .orders(orders)
+                .notFoundTrackingIds(notFoundTrackingIds)
+                .build();
+    }
+
+    public OrderNotFoundException orderNotFound(final UUID trackingId) {
+        log.warn("Could not find order with tracking id: {}", trackingId);
+        return new OrderNotFoundException("Could not find order with tracking id:" + trackingId);
+    }
 
-        return this.orderDataMapper.orderToTrackingOrderResponse(optionalOrder.get());
+    public Optional<TrackOrderVersion> findTrackOrderVersion(final TrackOrderQuery trackOrderQuery) {
+        return this.orderTrackingVersionIndex.find(trackOrderQuery.getOrderTrackingId());
     }
 
 }
@@ -0,0 +1,86 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingUpdatePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderTrackingHelper {
+
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderTrackingUpdatePublisher orderTrackingUpdatePublisher;
+    private final OrderTrackingVersionIndex orderTrackingVersionIndex;
+
+    public void ordersCreated(List<OrderCreatedEvent> orderCreatedEvents) {
+        if (orderCreatedEvents.isEmpty())
+            return;
+        final var orderTrackingViews = orderCreatedEvents.stream()
+                .map(this.orderDataMapper::orderCreatedEventToOrderTrackingView)
+                .toList();
+        this.orderTrackingRepository.createAll(orderTrackingViews);
+        this.afterCommit(() -> this.orderTrackingVersionIndex.putAll(orderTrackingViews));
+    }
+
+    public List<OrderTrackingView> ordersUpdated(Collection<Order> orders) {
+        if (orders.isEmpty())
+            return List.of();
+        final var updatedAt = ZonedDateTime.now(ZoneId.of(UTC)).truncatedTo(ChronoUnit.MICROS);
+        final var orderTrackingViews = orders.stream()
+                .map(order -> this.orderDataMapper.orderToOrderTrackingView(order, updatedAt))
+                .toList();
+        final var updatedOrderTrackingViews = this.orderTrackingRepository.updateAll(orderTrackingViews);
+        this.orderTrackingVersionIndex.invalidateAll(orderTrackingViews);
+        this.afterCommit(() -> {
+            this.orderTrackingVersionIndex.putAll(orderTrackingViews);
+            this.orderTrackingUpdatePublisher.publish(orderTrackingViews);
+        });
+        return updatedOrderTrackingViews;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderId> findRebuildChunkStarts(int chunkSize) {
+        return this.orderTrackingRepository.findRebuildChunkStarts(chunkSize);
+    }
+
+    @Transactional
+    public int rebuildChunk(OrderId fromOrderId, OrderId toOrderId, ZonedDateTime rebuiltAt) {
+        final var rebuilt = this.orderTrackingRepository.rebuildChunk(fromOrderId, toOrderId, rebuiltAt);
+        this.afterCommit(this.orderTrackingVersionIndex::clear);
+        log.debug("{} order tracking rows rebuilt starting at order id: {}", rebuilt, fromOrderId.getValue());
+        return rebuilt;
+    }
+}
@@ -0,0 +1,77 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class OrderTrackingLookupCoalescer {
+
+    private final boolean enabled;
+    private final OrderMetrics orderMetrics;
+    private final Map<UUID, Lookup> inFlight = new ConcurrentHashMap<>();
+
+    public OrderTrackingLookupCoalescer(OrderServiceConfigData orderServiceConfigData,
+                                        OrderMetrics orderMetrics) {
+        this.enabled = Boolean.TRUE.equals(orderServiceConfigData.getTrackingLookupCoalescingEnabled());
+        this.orderMetrics = orderMetrics;
+    }
+
+    public Optional<OrderTrackingView> find(TrackingId trackingId, Supplier<Optional<OrderTrackingView>> lookup) {
+        if (!this.enabled)
+            return lookup.get();
+        try {
+            return this.findAsync(trackingId, () -> CompletableFuture.completedFuture(lookup.get())).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public CompletableFuture<Optional<OrderTrackingView>> findAsync(TrackingId trackingId,
+                                                                    Supplier<CompletableFuture<Optional<OrderTrackingView>>> lookup) {
+        if (!this.enabled)
+            return lookup.get();
+
+        final var key = trackingId.getValue();
+        final var lookupInFlight = new Lookup();
+        final var sharedLookup = this.inFlight.putIfAbsent(key, lookupInFlight);
+        if (sharedLookup != null) {
+            sharedLookup.callers.incrementAndGet();
+            this.orderMetrics.recordTrackingLookup(true);
+            return sharedLookup.result.copy();
+        }
+
+        this.orderMetrics.recordTrackingLookup(false);
+        CompletableFuture<Optional<OrderTrackingView>> result;
+        try {
+            result = lookup.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((orderTrackingView, failure) -> {
+            this.inFlight.remove(key, lookupInFlight);
+            this.orderMetrics.recordTrackingLookupCallers(lookupInFlight.callers.get());
+            if (failure != null)
+                lookupInFlight.result.completeExceptionally(failure);
+            else
+                lookupInFlight.result.complete(orderTrackingView);
+        });
+        return lookupInFlight.result.copy();
+    }
+
+    private static final class Lookup {
+        private final CompletableFuture<Optional<OrderTrackingView>> result = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.RebuildOrderTrackingResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class OrderTrackingRebuildCommandHandler {
+
+    private final OrderTrackingHelper orderTrackingHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public RebuildOrderTrackingResponse rebuildOrderTracking() {
+        final var start = System.nanoTime();
+        final var rebuiltAt = ZonedDateTime.now(ZoneId.of(UTC));
+        final var chunkStarts = this.orderTrackingHelper
+                .findRebuildChunkStarts(this.orderServiceConfigData.getTrackingRebuildChunkSize());
+        log.info("Rebuilding order tracking in {} chunks", chunkStarts.size());
+
+        final var threadCounter = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(this.orderServiceConfigData.getTrackingRebuildParallelism(), chunkStarts.size())),
+                runnable -> new Thread(runnable, "order-tracking-rebuild-" + threadCounter.incrementAndGet()));
+        try {
+            final var rebuiltOrders = IntStream.range(0, chunkStarts.size())
+                    .mapToObj(chunk -> CompletableFuture.supplyAsync(() -> this.orderTrackingHelper.rebuildChunk(
+                            chunkStarts.get(chunk),
+                            chunk + 1 < chunkStarts.size() ? chunkStarts.get(chunk + 1) : null,
+                            rebuiltAt), executor))
+                    .toList()
+                    .stream()
+                    .mapToInt(CompletableFuture::join)
+                    .sum();
+
+            final var durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("Order tracking rebuilt for {} orders in {} ms", rebuiltOrders, durationMs);
+            return RebuildOrderTrackingResponse.builder()
+                    .chunks(chunkStarts.size())
+                    .rebuiltOrders(rebuiltOrders)
+                    .durationMs(durationMs)
+                    .build();
+        } catch (CompletionException e) {
+            log.error("Order tracking rebuild failed: {}", e.getCause().getMessage());
+            throw new OrderDomainException("Order tracking rebuild failed!", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
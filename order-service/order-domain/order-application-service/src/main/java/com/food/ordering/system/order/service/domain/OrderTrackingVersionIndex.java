@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class OrderTrackingVersionIndex {
+
+    private final OrderDataMapper orderDataMapper;
+    private final Cache<UUID, TrackOrderVersion> versions;
+
+    public OrderTrackingVersionIndex(OrderServiceConfigData orderServiceConfigData,
+                                     OrderDataMapper orderDataMapper,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.orderDataMapper = orderDataMapper;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getTrackingVersionCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(orderServiceConfigData.getTrackingVersionCacheExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), this.versions,
+                "order-tracking-versions");
+    }
+
+    public Optional<TrackOrderVersion> find(UUID trackingId) {
+        return Optional.ofNullable(this.versions.getIfPresent(trackingId));
+    }
+
+    public void put(OrderTrackingView orderTrackingView) {
+        final var version = this.orderDataMapper.orderTrackingViewToTrackOrderVersion(orderTrackingView);
+        this.versions.asMap().merge(version.getOrderTrackingId(), version, (current, candidate) ->
+                candidate.getOrderVersion() > current.getOrderVersion() ? candidate : current);
+    }
+
+    public void putAll(Collection<OrderTrackingView> orderTrackingViews) {
+        orderTrackingViews.forEach(this::put);
+    }
+
+    public void invalidateAll(Collection<OrderTrackingView> orderTrackingViews) {
+        this.versions.invalidateAll(orderTrackingViews.stream()
+                .map(orderTrackingView -> orderTrackingView.getTrackingId().getValue())
+                .toList());
+    }
+
+    public void clear() {
+        this.versions.invalidateAll();
+    }
+}
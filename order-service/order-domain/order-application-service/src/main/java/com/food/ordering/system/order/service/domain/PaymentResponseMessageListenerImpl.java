@@ -2,22 +2,33 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @Validated
+@AllArgsConstructor
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
+    private final OrderPaymentSaga orderPaymentSaga;
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        this.orderPaymentSaga.process(List.of(paymentResponse));
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
+        this.orderPaymentSaga.process(List.of(paymentResponse));
+    }
 
+    @Override
+    public void processPaymentResponses(List<PaymentResponse> paymentResponses) {
+        this.orderPaymentSaga.process(paymentResponses);
     }
 }
@@ -0,0 +1,78 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.input.service.ReactiveOrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ReactiveOrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Validated
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveOrderApplicationServiceImpl implements ReactiveOrderApplicationService {
+
+    private final OrderApplicationService orderApplicationService;
+    private final OrderTrackCommandHandler orderTrackCommandHandler;
+    private final ReactiveOrderTrackingRepository reactiveOrderTrackingRepository;
+    private final OrderTrackingLookupCoalescer orderTrackingLookupCoalescer;
+
+    @Override
+    public Mono<CreateOrderResponse> createOrder(String idempotencyKey, CreateOrderCommand createOrderCommand) {
+        return Mono.fromFuture(() -> this.orderApplicationService.createOrderAsync(idempotencyKey, createOrderCommand))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<CreateOrderBatchResponse> createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+        return Mono.fromCallable(() -> this.orderApplicationService.createOrders(createOrderBatchCommand))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<TrackOrderResponse> trackOrder(TrackOrderQuery trackOrderQuery) {
+        final var trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+        return Mono.fromFuture(() -> this.orderTrackingLookupCoalescer.findAsync(trackingId,
+                        () -> this.reactiveOrderTrackingRepository.findByTrackingId(trackingId)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .toFuture()))
+                .flatMap(Mono::justOrEmpty)
+                .map(this.orderTrackCommandHandler::toTrackOrderResponse)
+                .switchIfEmpty(Mono.error(() -> this.orderTrackCommandHandler.orderNotFound(trackOrderQuery.getOrderTrackingId())));
+    }
+
+    @Override
+    public Mono<TrackOrdersResponse> trackOrders(TrackOrdersQuery trackOrdersQuery) {
+        return Mono.fromSupplier(() -> this.orderTrackCommandHandler.distinctTrackingIds(trackOrdersQuery))
+                .flatMap(trackingIds -> this.reactiveOrderTrackingRepository.findByTrackingIds(trackingIds.stream()
+                                .map(TrackingId::new)
+                                .toList())
+                        .collectList()
+                        .map(orderTrackingViews -> this.orderTrackCommandHandler.toTrackOrdersResponse(trackingIds,
+                                orderTrackingViews)));
+    }
+
+    @Override
+    public Mono<TrackOrderVersion> findTrackOrderVersion(TrackOrderQuery trackOrderQuery) {
+        return Mono.justOrEmpty(this.orderTrackCommandHandler.findTrackOrderVersion(trackOrderQuery));
+    }
+}
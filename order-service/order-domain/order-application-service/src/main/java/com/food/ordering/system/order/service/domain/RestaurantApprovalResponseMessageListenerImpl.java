@@ -2,21 +2,33 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @Validated
+@AllArgsConstructor
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+    private final OrderApprovalSaga orderApprovalSaga;
+
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        this.orderApprovalSaga.process(List.of(restaurantApprovalResponse));
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        this.orderApprovalSaga.process(List.of(restaurantApprovalResponse));
+    }
 
+    @Override
+    public void processRestaurantApprovalResponses(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        this.orderApprovalSaga.process(restaurantApprovalResponses);
     }
 }
@@ -13,5 +13,30 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private Integer outboxBatchSize;
+    private Integer outboxMaxBatchesPerRun;
+    private Long outboxPublishTimeoutMs;
+    private Integer batchCreateMaxSize;
+    private Long processedMessageRetentionHours;
+    private Long idempotencyCacheMaximumSize;
+    private Long idempotencyCacheExpireAfterWriteMs;
+    private Long idempotencyWaitTimeoutMs;
+    private Integer trackingRebuildChunkSize;
+    private Integer trackingRebuildParallelism;
+    private Long trackingVersionCacheMaximumSize;
+    private Long trackingVersionCacheExpireAfterWriteMs;
+    private Integer trackOrdersMaxSize;
+    private Boolean createLookupParallel;
+    private Integer createLookupThreads;
+    private Integer createLookupQueueSize;
+    private Boolean groupCommitEnabled;
+    private Integer groupCommitMaxBatchSize;
+    private Long groupCommitMaxWaitMs;
+    private Integer groupCommitQueueCapacity;
+    private Integer groupCommitWriters;
+    private Integer requestExecutorThreads;
+    private Integer requestExecutorQueueSize;
+    private Boolean virtualThreadsEnabled;
+    private Boolean trackingLookupCoalescingEnabled;
 
 }
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchCommand {
+
+    @NotEmpty
+    private final List<CreateOrderCommand> orders;
+
+}
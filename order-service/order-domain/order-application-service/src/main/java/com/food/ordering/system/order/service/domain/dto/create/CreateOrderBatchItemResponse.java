@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchItemResponse {
+
+    @NotNull
+    private final Integer index;
+
+    @NotNull
+    private final Boolean created;
+
+    private final UUID orderTrackingId;
+
+    private final OrderStatus orderStatus;
+
+    @NotNull
+    private final String message;
+
+}
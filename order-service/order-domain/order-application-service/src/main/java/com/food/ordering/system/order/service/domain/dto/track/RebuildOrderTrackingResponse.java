@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RebuildOrderTrackingResponse {
+
+    private final Integer chunks;
+    private final Integer rebuiltOrders;
+    private final Long durationMs;
+
+}
@@ -22,4 +22,6 @@ public class TrackOrderResponse {
 
     private final List<String> failureMessages;
 
+    private final Long orderVersion;
+
 }
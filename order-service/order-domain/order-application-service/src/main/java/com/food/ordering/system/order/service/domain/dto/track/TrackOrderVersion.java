@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrackOrderVersion {
+
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    private final Long orderVersion;
+
+}
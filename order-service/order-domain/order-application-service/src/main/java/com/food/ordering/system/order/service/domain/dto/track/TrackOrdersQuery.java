@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrackOrdersQuery {
+
+    @NotEmpty
+    private final List<@NotNull UUID> orderTrackingIds;
+
+}
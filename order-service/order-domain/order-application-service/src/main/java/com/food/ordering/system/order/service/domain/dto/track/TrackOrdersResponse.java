@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrackOrdersResponse {
+
+    @NotNull
+    private final Map<UUID, TrackOrderResponse> orders;
+
+    @NotNull
+    private final List<UUID> notFoundTrackingIds;
+
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.domain.inbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class ProcessedMessageCleanerScheduler {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.processed-message-cleaner-fixed-delay-ms}",
+            initialDelayString = "${order-service.processed-message-cleaner-initial-delay-ms}")
+    public void deleteExpiredProcessedMessages() {
+        final var processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusHours(this.orderServiceConfigData.getProcessedMessageRetentionHours());
+        final var deleted = this.processedMessageRepository.deleteProcessedBefore(processedBefore);
+        if (deleted > 0)
+            log.info("{} processed message ids older than {} deleted", deleted, processedBefore);
+    }
+}
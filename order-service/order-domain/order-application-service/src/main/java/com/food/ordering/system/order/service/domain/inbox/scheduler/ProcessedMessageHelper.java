@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.domain.inbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+public class ProcessedMessageHelper {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final Counter duplicateMessages;
+    private final Counter invalidMessages;
+
+    public ProcessedMessageHelper(ProcessedMessageRepository processedMessageRepository,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.processedMessageRepository = processedMessageRepository;
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.duplicateMessages = registry.counter("order.inbox.duplicates");
+        this.invalidMessages = registry.counter("order.inbox.invalid");
+    }
+
+    public <T> List<T> filterUnprocessed(List<T> messages, Function<T, String> idExtractor) {
+        final var ids = new ArrayList<UUID>(messages.size());
+        final var validMessages = new ArrayList<T>(messages.size());
+        for (T message : messages) {
+            final var id = parseId(idExtractor.apply(message));
+            if (id == null)
+                continue;
+            ids.add(id);
+            validMessages.add(message);
+        }
+        final var processedIds = this.processedMessageRepository.findProcessedIds(new HashSet<>(ids));
+
+        final var seenIds = new HashSet<UUID>(ids.size());
+        final var unprocessed = new ArrayList<T>(validMessages.size());
+        for (int i = 0; i < validMessages.size(); i++) {
+            final var id = ids.get(i);
+            if (processedIds.contains(id) || !seenIds.add(id)) {
+                log.info("Skipping already processed message with id: {}", id);
+                continue;
+            }
+            unprocessed.add(validMessages.get(i));
+        }
+
+        this.duplicateMessages.increment(validMessages.size() - unprocessed.size());
+        return unprocessed;
+    }
+
+    public <T> void markProcessed(List<T> messages, Function<T, String> idExtractor) {
+        if (messages.isEmpty())
+            return;
+        this.processedMessageRepository.saveAll(messages.stream()
+                        .map(message -> parseId(idExtractor.apply(message)))
+                        .filter(Objects::nonNull)
+                        .toList(),
+                ZonedDateTime.now(ZoneId.of(UTC)));
+    }
+
+    private UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.error("Skipping message with invalid id: {}", id);
+            this.invalidMessages.increment();
+            return null;
+        }
+    }
+}
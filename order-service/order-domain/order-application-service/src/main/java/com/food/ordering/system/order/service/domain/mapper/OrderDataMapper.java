@@ -4,23 +4,39 @@ import com.food.ordering.system.order.service.domain.valueobject.CustomerId;
 import com.food.ordering.system.order.service.domain.valueobject.Money;
 import com.food.ordering.system.order.service.domain.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchItemResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
 
 @Component
+@AllArgsConstructor
 public class OrderDataMapper {
 
+    private final IdGenerator idGenerator;
 
     public Restaurant createOrderCommandToRestaurant(CreateOrderCommand command) {
         return Restaurant.Builder.builder()
@@ -54,7 +70,7 @@ public class OrderDataMapper {
 
     private StreetAddress orderAddressToStreetAddress(OrderAddress address) {
         return new StreetAddress(
-                UUID.randomUUID(),
+                this.idGenerator.generate(),
                 address.getStreet(),
                 address.getPostalCode(),
                 address.getCity()
@@ -71,6 +87,63 @@ public class OrderDataMapper {
 
     }
 
+    public OrderPaymentOutboxMessage orderCreatedEventToOrderPaymentOutboxMessage(OrderCreatedEvent event) {
+        final var order = event.getOrder();
+        return OrderPaymentOutboxMessage.builder()
+                .id(this.idGenerator.generate())
+                .orderId(order.getId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .price(order.getPrice().getAmount())
+                .createdAt(event.getCreatedAt())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage orderCancelledEventToOrderPaymentOutboxMessage(OrderCancelledEvent event) {
+        final var order = event.getOrder();
+        return OrderPaymentOutboxMessage.builder()
+                .id(this.idGenerator.generate())
+                .orderId(order.getId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .price(order.getPrice().getAmount())
+                .createdAt(event.getCreatedAt())
+                .paymentOrderStatus(PaymentOrderStatus.CANCELLED)
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage orderPaidEventToOrderApprovalOutboxMessage(OrderPaidEvent event) {
+        final var order = event.getOrder();
+        return OrderApprovalOutboxMessage.builder()
+                .id(this.idGenerator.generate())
+                .orderId(order.getId().getValue())
+                .restaurantId(order.getRestaurantId().getValue())
+                .price(order.getPrice().getAmount())
+                .createdAt(event.getCreatedAt())
+                .products(order.getItems().stream().map(orderItem -> OrderApprovalOutboxProduct.builder()
+                        .productId(orderItem.getProduct().getId().getValue())
+                        .quantity(orderItem.getQuantity())
+                        .build()).toList())
+                .build();
+    }
+
+    public CreateOrderBatchItemResponse orderToCreateOrderBatchItemResponse(int index, Order order, String message) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(true)
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .message(message)
+                .build();
+    }
+
+    public CreateOrderBatchItemResponse createOrderBatchFailure(int index, String message) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(false)
+                .message(message)
+                .build();
+    }
+
     public TrackOrderResponse orderToTrackingOrderResponse(Order order) {
 
         return TrackOrderResponse.builder()
@@ -80,4 +153,49 @@ public class OrderDataMapper {
                 .build();
 
     }
+
+    public OrderTrackingView orderCreatedEventToOrderTrackingView(OrderCreatedEvent event) {
+        final var order = event.getOrder();
+        return OrderTrackingView.builder()
+                .trackingId(order.getTrackingId())
+                .orderId(order.getId())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(order.getFailureMessages())
+                .createdAt(event.getCreatedAt().truncatedTo(ChronoUnit.MICROS))
+                .updatedAt(event.getCreatedAt().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+
+    public OrderTrackingView orderToOrderTrackingView(Order order, ZonedDateTime updatedAt) {
+        return OrderTrackingView.builder()
+                .trackingId(order.getTrackingId())
+                .orderId(order.getId())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(order.getFailureMessages())
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public TrackOrderResponse orderTrackingViewToTrackOrderResponse(OrderTrackingView orderTrackingView) {
+
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderTrackingView.getTrackingId().getValue())
+                .orderStatus(orderTrackingView.getOrderStatus())
+                .failureMessages(orderTrackingView.getFailureMessages())
+                .orderVersion(toOrderVersion(orderTrackingView.getUpdatedAt()))
+                .build();
+
+    }
+
+    public TrackOrderVersion orderTrackingViewToTrackOrderVersion(OrderTrackingView orderTrackingView) {
+        return TrackOrderVersion.builder()
+                .orderTrackingId(orderTrackingView.getTrackingId().getValue())
+                .orderStatus(orderTrackingView.getOrderStatus())
+                .orderVersion(toOrderVersion(orderTrackingView.getUpdatedAt()))
+                .build();
+    }
+
+    private static long toOrderVersion(ZonedDateTime updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+    }
 }
@@ -0,0 +1,184 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+@Component
+public class OrderMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+(\\.\\d+)?");
+    private static final int MAX_REASON_LENGTH = 120;
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> createStageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> createTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> sagaTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> domainExceptionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> invalidOrderIdCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> groupCommitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> groupCommitFallbackCounters = new ConcurrentHashMap<>();
+    private final DistributionSummary groupCommitSize;
+    private final Counter trackingLookups;
+    private final Counter coalescedTrackingLookups;
+    private final DistributionSummary trackingLookupCallers;
+
+    public OrderMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.groupCommitSize = DistributionSummary.builder("order.group.commit.size")
+                .publishPercentiles(PERCENTILES)
+                .register(this.registry);
+        this.trackingLookups = Counter.builder("order.tracking.lookups")
+                .tag("coalesced", "false")
+                .register(this.registry);
+        this.coalescedTrackingLookups = Counter.builder("order.tracking.lookups")
+                .tag("coalesced", "true")
+                .register(this.registry);
+        this.trackingLookupCallers = DistributionSummary.builder("order.tracking.lookup.callers")
+                .publishPercentiles(PERCENTILES)
+                .register(this.registry);
+    }
+
+    public <T> T recordCreateStage(final String stage, final Supplier<T> supplier) {
+        final var start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            this.createStageTimer(stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordCreateStage(final String stage, final Runnable runnable) {
+        this.recordCreateStage(stage, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public void recordCreateStage(final String stage, final long startNanos) {
+        this.createStageTimer(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCreateCommit(final String stage) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+        final var timer = this.createStageTimer(stage);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                this.start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (this.start != 0 && status == STATUS_COMMITTED)
+                    timer.record(System.nanoTime() - this.start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    public void recordCreate(final long startNanos, final String outcome) {
+        this.createTimers.computeIfAbsent(outcome, key -> Timer.builder("order.create")
+                        .tag("outcome", key)
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(this.registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordGroupCommit(final int size, final long startNanos, final String outcome) {
+        this.groupCommitTimers.computeIfAbsent(outcome, key -> Timer.builder("order.group.commit.duration")
+                        .tag("outcome", key)
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(this.registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        this.groupCommitSize.record(size);
+    }
+
+    public void recordGroupCommitFallback(final String reason) {
+        this.groupCommitFallbackCounters.computeIfAbsent(reason, key -> Counter.builder("order.group.commit.fallbacks")
+                        .tag("reason", key)
+                        .register(this.registry))
+                .increment();
+    }
+
+    public void recordTrackingLookup(final boolean coalesced) {
+        (coalesced ? this.coalescedTrackingLookups : this.trackingLookups).increment();
+    }
+
+    public void recordTrackingLookupCallers(final int callers) {
+        this.trackingLookupCallers.record(callers);
+    }
+
+    public void recordSagaLatency(final String saga, final OrderTrackingView orderTrackingView) {
+        if (orderTrackingView.getCreatedAt() == null || orderTrackingView.getUpdatedAt() == null)
+            return;
+        this.sagaTimers.computeIfAbsent(saga + ":" + orderTrackingView.getOrderStatus(), key -> Timer.builder("order.saga.latency")
+                        .tag("saga", saga)
+                        .tag("status", orderTrackingView.getOrderStatus().name())
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(10))
+                        .maximumExpectedValue(Duration.ofMinutes(30))
+                        .register(this.registry))
+                .record(Duration.between(orderTrackingView.getCreatedAt(), orderTrackingView.getUpdatedAt()));
+    }
+
+    public void recordDomainException(final String operation, final OrderDomainException exception) {
+        final var reason = reason(exception.getMessage());
+        this.domainExceptionCounters.computeIfAbsent(operation + ":" + reason, key -> Counter.builder("order.domain.exceptions")
+                        .tag("operation", operation)
+                        .tag("reason", reason)
+                        .register(this.registry))
+                .increment();
+    }
+
+    public void recordInvalidOrderId(final String saga) {
+        this.invalidOrderIdCounters.computeIfAbsent(saga, key -> Counter.builder("order.saga.invalid.order.ids")
+                        .tag("saga", key)
+                        .register(this.registry))
+                .increment();
+    }
+
+    private Timer createStageTimer(final String stage) {
+        return this.createStageTimers.computeIfAbsent(stage, key -> Timer.builder("order.create.stage")
+                .tag("stage", key)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(this.registry));
+    }
+
+    private static String reason(final String message) {
+        if (message == null)
+            return "unknown";
+        final var reason = NUMBER_PATTERN.matcher(UUID_PATTERN.matcher(message).replaceAll("{id}")).replaceAll("{n}");
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+}
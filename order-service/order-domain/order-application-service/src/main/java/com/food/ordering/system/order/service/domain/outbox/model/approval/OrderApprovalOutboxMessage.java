@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderApprovalOutboxMessage {
+
+    private final UUID id;
+    private final UUID orderId;
+    private final UUID restaurantId;
+    private final BigDecimal price;
+    private final ZonedDateTime createdAt;
+    private final List<OrderApprovalOutboxProduct> products;
+
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderApprovalOutboxProduct {
+
+    private final UUID productId;
+    private final Integer quantity;
+
+}
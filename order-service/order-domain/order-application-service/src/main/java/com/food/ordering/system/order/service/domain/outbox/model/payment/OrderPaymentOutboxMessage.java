@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.outbox.model.payment;
+
+import com.food.ordering.system.order.service.domain.valueobject.PaymentOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderPaymentOutboxMessage {
+
+    private final UUID id;
+    private final UUID orderId;
+    private final UUID customerId;
+    private final BigDecimal price;
+    private final ZonedDateTime createdAt;
+    private final PaymentOrderStatus paymentOrderStatus;
+
+}
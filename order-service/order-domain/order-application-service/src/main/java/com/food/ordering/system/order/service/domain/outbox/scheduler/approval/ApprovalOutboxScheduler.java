@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class ApprovalOutboxScheduler {
+
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-delay-ms}",
+            initialDelayString = "${order-service.outbox-scheduler-initial-delay-ms}")
+    public void processOutboxMessages() {
+        final int batchSize = this.orderServiceConfigData.getOutboxBatchSize();
+        for (int batch = 0; batch < this.orderServiceConfigData.getOutboxMaxBatchesPerRun(); batch++) {
+            try {
+                if (this.approvalOutboxHelper.relayBatch() < batchSize)
+                    return;
+            } catch (Exception e) {
+                log.error("Error while relaying OrderApprovalOutboxMessages: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+public class PaymentOutboxHelper {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentRequestOutboxMessagePublisher paymentRequestOutboxMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Counter publishedMessages;
+    private final Counter failedMessages;
+    private final Timer batchTimer;
+    private final Timer publishLag;
+    private final AtomicLong oldestClaimedAgeMs = new AtomicLong();
+
+    public PaymentOutboxHelper(PaymentOutboxRepository paymentOutboxRepository,
+                               PaymentRequestOutboxMessagePublisher paymentRequestOutboxMessagePublisher,
+                               OrderServiceConfigData orderServiceConfigData,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.paymentRequestOutboxMessagePublisher = paymentRequestOutboxMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.publishedMessages = registry.counter("order.outbox.payment.published");
+        this.failedMessages = registry.counter("order.outbox.payment.failed");
+        this.batchTimer = registry.timer("order.outbox.payment.batch");
+        this.publishLag = registry.timer("order.outbox.payment.lag");
+        registry.gauge("order.outbox.payment.oldest.age.ms", this.oldestClaimedAgeMs);
+    }
+
+    public void save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        this.paymentOutboxRepository.save(orderPaymentOutboxMessage);
+        log.info("OrderPaymentOutboxMessage saved with id: {} for order id: {}", orderPaymentOutboxMessage.getId(),
+                orderPaymentOutboxMessage.getOrderId());
+    }
+
+    public void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        this.paymentOutboxRepository.saveAll(orderPaymentOutboxMessages);
+        log.info("{} OrderPaymentOutboxMessages saved", orderPaymentOutboxMessages.size());
+    }
+
+    @Transactional
+    public int relayBatch() {
+        final var start = System.nanoTime();
+        final var messages = this.paymentOutboxRepository.claimBatch(this.orderServiceConfigData.getOutboxBatchSize());
+        if (messages.isEmpty()) {
+            this.oldestClaimedAgeMs.set(0);
+            return 0;
+        }
+
+        final var now = ZonedDateTime.now(ZoneId.of(UTC));
+        this.oldestClaimedAgeMs.set(Duration.between(messages.get(0).getCreatedAt(), now).toMillis());
+
+        final var futures = messages.stream().map(this::publish).toList();
+        final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.orderServiceConfigData.getOutboxPublishTimeoutMs());
+        final var publishedIds = new ArrayList<UUID>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            final var message = messages.get(i);
+            if (this.awaitPublished(futures.get(i), deadline, message)) {
+                publishedIds.add(message.getId());
+                this.publishLag.record(Duration.between(message.getCreatedAt(), now));
+            }
+        }
+
+        this.paymentOutboxRepository.deleteByIds(publishedIds);
+        this.publishedMessages.increment(publishedIds.size());
+        this.failedMessages.increment(messages.size() - publishedIds.size());
+        this.batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("{} of {} OrderPaymentOutboxMessages published", publishedIds.size(), messages.size());
+        return publishedIds.size();
+    }
+
+    private CompletableFuture<Void> publish(OrderPaymentOutboxMessage message) {
+        try {
+            return this.paymentRequestOutboxMessagePublisher.publish(message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitPublished(CompletableFuture<Void> future, long deadline, OrderPaymentOutboxMessage message) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Could not publish OrderPaymentOutboxMessage with id: {} for order id: {}, it will be retried: {}",
+                    message.getId(), message.getOrderId(), e.getMessage());
+            return false;
+        }
+    }
+}
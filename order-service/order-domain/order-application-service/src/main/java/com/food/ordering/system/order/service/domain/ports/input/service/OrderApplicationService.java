@@ -1,16 +1,39 @@
 package com.food.ordering.system.order.service.domain.ports.input.service;
 
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.RebuildOrderTrackingResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
 
 import javax.validation.Valid;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid final CreateOrderCommand createOrderCommand);
 
+    CreateOrderResponse createOrder(final String idempotencyKey, @Valid final CreateOrderCommand createOrderCommand);
+
+    CompletableFuture<CreateOrderResponse> createOrderAsync(final String idempotencyKey,
+                                                            @Valid final CreateOrderCommand createOrderCommand);
+
+    CreateOrderBatchResponse createOrders(@Valid final CreateOrderBatchCommand createOrderBatchCommand);
+
     TrackOrderResponse trackOrder(@Valid final TrackOrderQuery trackOrderQuery);
 
+    CompletableFuture<TrackOrderResponse> trackOrderAsync(@Valid final TrackOrderQuery trackOrderQuery);
+
+    TrackOrdersResponse trackOrders(@Valid final TrackOrdersQuery trackOrdersQuery);
+
+    Optional<TrackOrderVersion> findTrackOrderVersion(@Valid final TrackOrderQuery trackOrderQuery);
+
+    RebuildOrderTrackingResponse rebuildOrderTracking();
+
 }
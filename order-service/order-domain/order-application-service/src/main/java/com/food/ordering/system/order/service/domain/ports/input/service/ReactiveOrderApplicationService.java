@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.ports.input.service;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderVersion;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrdersResponse;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+public interface ReactiveOrderApplicationService {
+
+    Mono<CreateOrderResponse> createOrder(final String idempotencyKey, @Valid final CreateOrderCommand createOrderCommand);
+
+    Mono<CreateOrderBatchResponse> createOrders(@Valid final CreateOrderBatchCommand createOrderBatchCommand);
+
+    Mono<TrackOrderResponse> trackOrder(@Valid final TrackOrderQuery trackOrderQuery);
+
+    Mono<TrackOrdersResponse> trackOrders(@Valid final TrackOrdersQuery trackOrdersQuery);
+
+    Mono<TrackOrderVersion> findTrackOrderVersion(@Valid final TrackOrderQuery trackOrderQuery);
+
+}
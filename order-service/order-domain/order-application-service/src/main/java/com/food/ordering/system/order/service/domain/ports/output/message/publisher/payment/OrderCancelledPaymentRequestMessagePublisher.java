@@ -1,7 +0,0 @@
-package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
-
-import com.food.ordering.system.order.service.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
-
-public interface OrderCancelledPaymentRequestMessagePublisher extends DomainEventPublisher<OrderCancelledEvent> {
-}
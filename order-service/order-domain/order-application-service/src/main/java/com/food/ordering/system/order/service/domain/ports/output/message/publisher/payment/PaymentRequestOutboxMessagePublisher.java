@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
+
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentRequestOutboxMessagePublisher {
+
+    CompletableFuture<Void> publish(final OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval;
+
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface RestaurantApprovalRequestOutboxMessagePublisher {
+
+    CompletableFuture<Void> publish(OrderApprovalOutboxMessage orderApprovalOutboxMessage);
+
+}
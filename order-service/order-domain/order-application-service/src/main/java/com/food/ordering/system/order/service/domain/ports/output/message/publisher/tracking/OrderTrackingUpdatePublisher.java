@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking;
+
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+
+import java.util.List;
+
+public interface OrderTrackingUpdatePublisher {
+
+    void publish(List<OrderTrackingView> orderTrackingViews);
+
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ApprovalOutboxRepository {
+
+    void saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages);
+
+    List<OrderApprovalOutboxMessage> claimBatch(int batchSize);
+
+    void deleteByIds(List<UUID> ids);
+
+}
@@ -1,14 +1,24 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    Order create(Order order);
+
+    List<Order> createAll(List<Order> orders);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
+    List<Order> findByIds(List<OrderId> orderIds);
+
+    void updateStatuses(List<Order> orders);
+
 }
@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+
+    Optional<OrderTrackingView> findByTrackingId(TrackingId trackingId);
+
+    List<OrderTrackingView> findByTrackingIds(Collection<TrackingId> trackingIds);
+
+    void createAll(List<OrderTrackingView> orderTrackingViews);
+
+    List<OrderTrackingView> updateAll(List<OrderTrackingView> orderTrackingViews);
+
+    List<OrderId> findRebuildChunkStarts(int chunkSize);
+
+    int rebuildChunk(OrderId fromOrderId, OrderId toOrderId, ZonedDateTime rebuiltAt);
+
+}
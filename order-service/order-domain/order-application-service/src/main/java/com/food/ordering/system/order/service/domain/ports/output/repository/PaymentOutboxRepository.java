@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentOutboxRepository {
+
+    void save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+
+    void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
+    List<OrderPaymentOutboxMessage> claimBatch(int batchSize);
+
+    void deleteByIds(List<UUID> ids);
+
+}
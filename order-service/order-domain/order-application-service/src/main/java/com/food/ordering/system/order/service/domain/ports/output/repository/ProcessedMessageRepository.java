@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository {
+
+    Set<UUID> findProcessedIds(Collection<UUID> messageIds);
+
+    void saveAll(Collection<UUID> messageIds, ZonedDateTime processedAt);
+
+    int deleteProcessedBefore(ZonedDateTime processedBefore);
+
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.food.ordering.system.order.service.domain.view.OrderTrackingView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveOrderTrackingRepository {
+
+    Mono<OrderTrackingView> findByTrackingId(TrackingId trackingId);
+
+    Flux<OrderTrackingView> findByTrackingIds(Collection<TrackingId> trackingIds);
+
+}
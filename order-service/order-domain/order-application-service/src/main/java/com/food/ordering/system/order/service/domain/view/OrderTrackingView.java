@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.domain.view;
+
+import com.food.ordering.system.order.service.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderTrackingView {
+
+    private final TrackingId trackingId;
+    private final OrderId orderId;
+    private final OrderStatus orderStatus;
+    private final List<String> failureMessages;
+    private final ZonedDateTime createdAt;
+    private final ZonedDateTime updatedAt;
+
+}
@@ -6,6 +6,7 @@ import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.ZoneId;
@@ -17,12 +18,18 @@ public class OrderDomainServiceImpl implements OrderDomainService {
 
     public static final String UTC = "UTC";
 
+    private final IdGenerator idGenerator;
+
+    public OrderDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
         validateRestaurant(restaurant);
         setOrderProductInformation(order, restaurant);
         order.validateOrder();
-        order.initializeOrder();
+        order.initializeOrder(this.idGenerator);
         log.info("Order with id: {} is initiated", order.getId().getValue());
         return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
     }
@@ -56,12 +63,11 @@ public class OrderDomainServiceImpl implements OrderDomainService {
 
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        order.getItems().forEach(orderItem -> restaurant.getProducts().forEach(restaurantProduct -> {
+        order.getItems().forEach(orderItem -> {
             final var currentProduct = orderItem.getProduct();
-            if (currentProduct.equals(restaurantProduct))
-                currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
-
-        }));
+            restaurant.findProduct(currentProduct.getId()).ifPresent(restaurantProduct ->
+                    currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice()));
+        });
 
     }
 
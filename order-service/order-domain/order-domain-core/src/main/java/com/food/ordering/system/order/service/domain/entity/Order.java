@@ -1,10 +1,10 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
 import com.food.ordering.system.order.service.domain.valueobject.*;
 
 import java.util.List;
-import java.util.UUID;
 
 public class Order extends AggregateRoot<OrderId> {
 
@@ -21,9 +21,9 @@ public class Order extends AggregateRoot<OrderId> {
     public static final String FAILURE_MESSAGE_DELIMITER = ",";
 
 
-    public void initializeOrder() {
-        this.setId(new OrderId(UUID.randomUUID()));
-        this.trackingId = new TrackingId(UUID.randomUUID());
+    public void initializeOrder(IdGenerator idGenerator) {
+        this.setId(new OrderId(idGenerator.generate()));
+        this.trackingId = new TrackingId(idGenerator.generate());
         this.orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
     }
@@ -79,8 +79,8 @@ public class Order extends AggregateRoot<OrderId> {
             return orderItem.getSubTotal();
         }).reduce(Money.ZERO, Money::add);
 
-        if (this.price.equals(orderItemsTotal))
-            throw new OrderDomainException("Total price" + this.price +
+        if (!this.price.equals(orderItemsTotal))
+            throw new OrderDomainException("Total price: " + this.price.getAmount() +
                     " is not equals to Order items total: " + orderItemsTotal.getAmount() + "!");
     }
 
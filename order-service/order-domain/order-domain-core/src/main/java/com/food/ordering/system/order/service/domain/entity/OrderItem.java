@@ -25,7 +25,7 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     }
 
     private OrderItem(Builder builder) {
-        super.setId(builder.build().getId());
+        super.setId(builder.orderItemId);
         product = builder.product;
         quantity = builder.quantity;
         price = builder.price;
@@ -1,24 +1,44 @@
 package com.food.ordering.system.order.service.domain.entity;
 
+import com.food.ordering.system.order.service.domain.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.valueobject.RestaurantId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
 
     private final List<Product> products;
+    private final Map<ProductId, Product> productsById;
     private Boolean active;
 
     private Restaurant(Builder builder) {
         super.setId(builder.restaurantId);
         products = builder.products;
+        productsById = indexProducts(builder.products);
         active = builder.active;
     }
 
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        if (products == null || products.isEmpty())
+            return Collections.emptyMap();
+
+        final var index = new HashMap<ProductId, Product>((int) (products.size() / 0.75f) + 1);
+        products.forEach(product -> index.put(product.getId(), product));
+        return Collections.unmodifiableMap(index);
+    }
+
     public List<Product> getProducts() {
         return products;
     }
 
+    public Optional<Product> findProduct(ProductId productId) {
+        return Optional.ofNullable(productsById.get(productId));
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -1,8 +1,8 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.KeyOrderedBatchProcessor;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +13,6 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Component
@@ -21,11 +20,14 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        KeyOrderedBatchProcessor keyOrderedBatchProcessor) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
     }
 
     @Override
@@ -43,17 +45,14 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(this::processingPaymentOrderMessage);
+        this.keyOrderedBatchProcessor.process(messages, PaymentResponseAvroModel::getOrderId, this::processingPaymentOrderMessages);
 
     }
 
-    private void processingPaymentOrderMessage(PaymentResponseAvroModel avro) {
-        if (Objects.equals(PaymentStatus.COMPLETED, avro.getPaymentStatus())) {
-            log.info("Processing successful payment for order id: {}", avro.getOrderId());
-            this.paymentResponseMessageListener.paymentCompleted(this.orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(avro));
-        } else if (Objects.equals(PaymentStatus.CANCELLED, avro.getPaymentStatus()) || Objects.equals(PaymentStatus.FAILED, avro.getPaymentStatus())) {
-            log.info("Processing unsuccessful payment for order id: {}", avro.getOrderId());
-            this.paymentResponseMessageListener.paymentCancelled(this.orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(avro));
-        }
+    private void processingPaymentOrderMessages(List<PaymentResponseAvroModel> avros) {
+        log.info("Processing {} payment responses", avros.size());
+        this.paymentResponseMessageListener.processPaymentResponses(avros.stream()
+                .map(this.orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+                .toList());
     }
 }
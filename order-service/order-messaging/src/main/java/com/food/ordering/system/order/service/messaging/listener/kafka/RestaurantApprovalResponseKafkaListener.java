@@ -1,7 +1,7 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.consumer.KeyOrderedBatchProcessor;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
@@ -13,7 +13,6 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Component
@@ -21,11 +20,14 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
 
     public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
-                                                   OrderMessagingDataMapper orderMessagingDataMapper) {
+                                                   OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   KeyOrderedBatchProcessor keyOrderedBatchProcessor) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
     }
 
 
@@ -44,20 +46,14 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(this::processingRestaurantApprovalOrderMessage);
+        this.keyOrderedBatchProcessor.process(messages, RestaurantApprovalResponseAvroModel::getOrderId, this::processingRestaurantApprovalOrderMessages);
 
     }
 
-    private void processingRestaurantApprovalOrderMessage(final RestaurantApprovalResponseAvroModel avro) {
-
-        if (Objects.equals(OrderApprovalStatus.APPROVED, avro.getOrderApprovalStatus())) {
-            log.info("Processing approved order for order id: {}", avro.getOrderId());
-            this.restaurantApprovalResponseMessageListener.orderApproved(this.orderMessagingDataMapper.restaurantApprovalAvroModelToRestaurantApprovalResponse(avro));
-        } else if (Objects.equals(OrderApprovalStatus.REJECTED, avro.getOrderApprovalStatus())) {
-            log.info("Processing rejected order for order id: {}, with failure messages: {}", avro.getOrderId(), avro.getFailureMessages());
-            this.restaurantApprovalResponseMessageListener.orderRejected(this.orderMessagingDataMapper.restaurantApprovalAvroModelToRestaurantApprovalResponse(avro));
-        }
-
-
+    private void processingRestaurantApprovalOrderMessages(final List<RestaurantApprovalResponseAvroModel> avros) {
+        log.info("Processing {} restaurant approval responses", avros.size());
+        this.restaurantApprovalResponseMessageListener.processRestaurantApprovalResponses(avros.stream()
+                .map(this.orderMessagingDataMapper::restaurantApprovalAvroModelToRestaurantApprovalResponse)
+                .toList());
     }
 }
@@ -6,21 +6,28 @@ import com.food.ordering.system.order.service.domain.dto.message.RestaurantAppro
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.order.service.domain.valueobject.PaymentStatus;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class OrderMessagingDataMapper {
 
+    private final IdGenerator idGenerator;
+
+    public OrderMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(final OrderCreatedEvent event) {
         final var order = event.getOrder();
         final var createdAt = event.getCreatedAt();
 
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(this.idGenerator.generate().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
@@ -35,7 +42,7 @@ public class OrderMessagingDataMapper {
         final var createdAt = event.getCreatedAt();
 
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(this.idGenerator.generate().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
@@ -45,12 +52,42 @@ public class OrderMessagingDataMapper {
                 .build();
     }
 
+    public PaymentRequestAvroModel orderPaymentOutboxMessageToPaymentRequestAvroModel(final OrderPaymentOutboxMessage message) {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(message.getId().toString())
+                .setSagaId("")
+                .setCustomerId(message.getCustomerId().toString())
+                .setOrderId(message.getOrderId().toString())
+                .setPrice(message.getPrice())
+                .setCreatedAt(message.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(message.getPaymentOrderStatus().name()))
+                .build();
+    }
+
+    public RestaurantApprovalRequestAvroModel orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel(final OrderApprovalOutboxMessage message) {
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(message.getId().toString())
+                .setSagaId("")
+                .setOrderId(message.getOrderId().toString())
+                .setRestaurantId(message.getRestaurantId().toString())
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setPrice(message.getPrice())
+                .setCreatedAt(message.getCreatedAt().toInstant())
+                .setProducts(message.getProducts().stream().map(product ->
+                        Product.newBuilder()
+                                .setId(product.getProductId().toString())
+                                .setQuantity(product.getQuantity())
+                                .build()).toList()
+                )
+                .build();
+    }
+
     public RestaurantApprovalRequestAvroModel orderPaidEventoToRestaurantApprovalRequestAvroModel(OrderPaidEvent event) {
         final var order = event.getOrder();
         final var createdAt = event.getCreatedAt();
 
         return RestaurantApprovalRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(this.idGenerator.generate().toString())
                 .setSagaId("")
                 .setOrderId(order.getId().getValue().toString())
                 .setRestaurantId(order.getRestaurantId().getValue().toString())
@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestOutboxMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+public class PaymentRequestOutboxKafkaMessagePublisher implements PaymentRequestOutboxMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+
+    public PaymentRequestOutboxKafkaMessagePublisher(final OrderMessagingDataMapper orderMessagingDataMapper,
+                                                     final OrderServiceConfigData orderServiceConfigData,
+                                                     final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer,
+                                                     final KafkaMessageHelper kafkaMessageHelper) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(final OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        final var orderId = orderPaymentOutboxMessage.getOrderId().toString();
+        final var paymentRequestAvroModel = this.orderMessagingDataMapper
+                .orderPaymentOutboxMessageToPaymentRequestAvroModel(orderPaymentOutboxMessage);
+
+        return this.kafkaProducer.send(this.orderServiceConfigData.getPaymentRequestTopicName(),
+                        orderId,
+                        paymentRequestAvroModel,
+                        this.kafkaMessageHelper.getKafkaCallback(this.orderServiceConfigData.getPaymentRequestTopicName(),
+                                paymentRequestAvroModel,
+                                orderId,
+                                paymentRequestAvroModel.getClass().getSimpleName()))
+                .completable()
+                .thenApply(sendResult -> null);
+    }
+}
@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestOutboxMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+public class RestaurantApprovalRequestOutboxKafkaMessagePublisher implements RestaurantApprovalRequestOutboxMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+
+    public RestaurantApprovalRequestOutboxKafkaMessagePublisher(final OrderMessagingDataMapper orderMessagingDataMapper,
+                                                                final OrderServiceConfigData orderServiceConfigData,
+                                                                final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
+                                                                final KafkaMessageHelper kafkaMessageHelper) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(final OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        final var orderId = orderApprovalOutboxMessage.getOrderId().toString();
+        final var restaurantApprovalRequestAvroModel = this.orderMessagingDataMapper
+                .orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel(orderApprovalOutboxMessage);
+
+        return this.kafkaProducer.send(this.orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                        orderId,
+                        restaurantApprovalRequestAvroModel,
+                        this.kafkaMessageHelper.getKafkaCallback(this.orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                                restaurantApprovalRequestAvroModel,
+                                orderId,
+                                restaurantApprovalRequestAvroModel.getClass().getSimpleName()))
+                .completable()
+                .thenApply(sendResult -> null);
+    }
+}